@@ -0,0 +1,86 @@
+package com.redflag.redflag.benchmark;
+
+import com.redflag.redflag.analysis.search.ExactVectorStore;
+import com.redflag.redflag.analysis.search.HnswIndex;
+import com.redflag.redflag.analysis.search.QuantizedVectorStore;
+import com.redflag.redflag.analysis.search.SimilarCase;
+import com.redflag.redflag.analysis.search.VectorMath;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 벤치마크 대상 검색 방식 (서비스의 검색 엔진과 같은 저장소/인덱스 클래스 사용)
+ * - exact: ExactVectorStore (SIMD 전수 검색)
+ * - hnsw: HnswIndex (ef = 탐색 후보 수)
+ * - quantized: QuantizedVectorStore 후보 선별 + 원본 벡터로 재정렬 (서비스에서는 재정렬을 pgvector에서 수행)
+ */
+public interface BenchmarkEngine {
+
+    String name();
+
+    List<SimilarCase> search(float[] query, int k);
+
+    static BenchmarkEngine exact(SyntheticCorpus corpus) {
+        ExactVectorStore store = new ExactVectorStore(SyntheticCorpus.DIMENSION, corpus.size(), ForkJoinPool.commonPool());
+        for (int i = 0; i < corpus.size(); i++) {
+            store.add(corpus.id(i), corpus.vector(i));
+        }
+        return named("exact", store::search);
+    }
+
+    static BenchmarkEngine hnsw(SyntheticCorpus corpus, int m, int efConstruction, int ef) {
+        HnswIndex index = new HnswIndex(SyntheticCorpus.DIMENSION, m, efConstruction, 42);
+        for (int i = 0; i < corpus.size(); i++) {
+            index.add(corpus.id(i), corpus.vector(i));
+        }
+        return named("hnsw(ef=" + ef + ")", (query, k) -> index.search(query, k, ef));
+    }
+
+    static BenchmarkEngine quantized(SyntheticCorpus corpus, int shortlist) {
+        QuantizedVectorStore store = new QuantizedVectorStore(SyntheticCorpus.DIMENSION, corpus.size());
+        Map<UUID, float[]> originals = new HashMap<>(corpus.size() * 2);
+        for (int i = 0; i < corpus.size(); i++) {
+            store.add(corpus.id(i), corpus.vector(i));
+            originals.put(corpus.id(i), VectorMath.normalize(corpus.vector(i), SyntheticCorpus.DIMENSION));
+        }
+        return named("quantized(shortlist=" + shortlist + ")", (query, k) -> {
+            float[] q = VectorMath.normalize(query, SyntheticCorpus.DIMENSION);
+            List<SimilarCase> reranked = new ArrayList<>();
+            for (SimilarCase candidate : store.shortlist(query, Math.max(shortlist, k))) {
+                float[] v = originals.get(candidate.exampleCaseId());
+                double dot = 0;
+                for (int i = 0; i < q.length; i++) {
+                    dot += q[i] * v[i];
+                }
+                reranked.add(new SimilarCase(candidate.exampleCaseId(), 1.0 - dot));
+            }
+            reranked.sort(Comparator.comparingDouble(SimilarCase::distance));
+            return reranked.size() > k ? reranked.subList(0, k) : reranked;
+        });
+    }
+
+    static BenchmarkEngine named(String name, Search search) {
+        return new BenchmarkEngine() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public List<SimilarCase> search(float[] query, int k) {
+                return search.search(query, k);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface Search {
+        List<SimilarCase> search(float[] query, int k);
+    }
+}
@@ -0,0 +1,306 @@
+package com.redflag.redflag.benchmark;
+
+import com.redflag.redflag.analysis.repository.ExampleCaseRow;
+import com.redflag.redflag.analysis.repository.ExampleCaseVectorRepository;
+import com.redflag.redflag.analysis.repository.ExampleCaseVectorRepositoryImpl;
+import com.redflag.redflag.analysis.search.HnswIndex;
+import com.redflag.redflag.analysis.search.PgvectorIndexManager;
+import com.redflag.redflag.analysis.search.SimilarCase;
+import com.redflag.redflag.analysis.search.VectorMath;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 검색 방식별 재현율(recall@k)과 지연/처리량 비교
+ * - 기준값: 스칼라 전수 비교 (double 누산)
+ * - 인메모리: exact, hnsw(ef별), quantized
+ * - pgvector (bench.jdbc.url 지정 시): 서비스와 같은 ExampleCaseVectorRepositoryImpl/PgvectorIndexManager로
+ *   별도 스키마(bench.jdbc.schema)에 코퍼스를 적재하고 findNearestExact / findNearest 측정
+ * 실행: ./gradlew recall -Dbench.sizes=10000,50000 [-Dbench.jdbc.url=jdbc:postgresql://localhost:5432/redflag ...]
+ *
+ * 시스템 프로퍼티
+ * - bench.sizes (10000,50000), bench.queries (200), bench.k (3), bench.clusters (64), bench.noise (0.8)
+ * - bench.hnsw.ef (16,64,128), bench.quantized.shortlist (30)
+ * - bench.corpus.file: 실제 임베딩 덤프 (float32 little-endian, 768차원 연속), 없으면 합성 코퍼스
+ * - bench.jdbc.url / bench.jdbc.user / bench.jdbc.password / bench.jdbc.schema (redflag_bench)
+ *   pgvector 인덱스 설정은 서비스와 같은 similar-case.pgvector.* 프로퍼티 사용
+ */
+public final class RecallRunner {
+
+    private static final int WARMUP_QUERIES = 50;
+
+    private RecallRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = intList("bench.sizes", "10000,50000");
+        int queryCount = Integer.getInteger("bench.queries", 200);
+        int k = Integer.getInteger("bench.k", 3);
+        int clusters = Integer.getInteger("bench.clusters", 64);
+        float noise = Float.parseFloat(System.getProperty("bench.noise", "0.8"));
+        int[] efs = intList("bench.hnsw.ef", "16,64,128");
+        int shortlist = Integer.getInteger("bench.quantized.shortlist", 30);
+        String corpusFile = System.getProperty("bench.corpus.file");
+        String jdbcUrl = System.getProperty("bench.jdbc.url");
+
+        System.out.printf("| corpus | engine | recall@%d | p50 (ms) | p99 (ms) | qps |%n", k);
+        System.out.println("|---:|---|---:|---:|---:|---:|");
+
+        for (int size : sizes) {
+            SyntheticCorpus corpus = corpusFile == null
+                    ? SyntheticCorpus.generate(size, clusters, noise, 42)
+                    : SyntheticCorpus.load(Path.of(corpusFile), size, 42);
+            float[][] queries = corpus.queries(queryCount + WARMUP_QUERIES);
+            List<Set<UUID>> truth = groundTruth(corpus, queries, k);
+
+            List<BenchmarkEngine> engines = new ArrayList<>();
+            engines.add(BenchmarkEngine.exact(corpus));
+            for (int ef : efs) {
+                engines.add(hnswWithEf(corpus, ef, engines));
+            }
+            engines.add(BenchmarkEngine.quantized(corpus, shortlist));
+
+            for (BenchmarkEngine engine : engines) {
+                report(corpus.size(), engine, queries, truth, k);
+            }
+            engines.clear();
+
+            if (jdbcUrl != null) {
+                try (PgvectorBench pgvector = new PgvectorBench(jdbcUrl)) {
+                    pgvector.load(corpus);
+                    report(corpus.size(), BenchmarkEngine.named("pgvector-exact",
+                            (query, limit) -> pgvector.repository.findNearestExact(query, limit, null)), queries, truth, k);
+                    report(corpus.size(), BenchmarkEngine.named("pgvector-" + pgvector.indexType(),
+                            (query, limit) -> pgvector.repository.findNearest(query, limit, null)), queries, truth, k);
+                }
+            }
+        }
+    }
+
+    // ef만 다른 HNSW는 같은 그래프를 공유 (구축 비용 절약)
+    private static BenchmarkEngine hnswWithEf(SyntheticCorpus corpus, int ef, List<BenchmarkEngine> built) {
+        return built.stream()
+                .filter(HnswEngine.class::isInstance)
+                .map(HnswEngine.class::cast)
+                .findFirst()
+                .map(engine -> engine.withEf(ef))
+                .orElseGet(() -> HnswEngine.build(corpus, ef));
+    }
+
+    private static void report(int size, BenchmarkEngine engine, float[][] queries, List<Set<UUID>> truth, int k) {
+        for (int q = 0; q < WARMUP_QUERIES; q++) {
+            engine.search(queries[q], k);
+        }
+
+        int measured = queries.length - WARMUP_QUERIES;
+        long[] latencies = new long[measured];
+        long hits = 0;
+        long start = System.nanoTime();
+        for (int q = 0; q < measured; q++) {
+            long begin = System.nanoTime();
+            List<SimilarCase> results = engine.search(queries[WARMUP_QUERIES + q], k);
+            latencies[q] = System.nanoTime() - begin;
+            Set<UUID> expected = truth.get(WARMUP_QUERIES + q);
+            hits += results.stream().filter(result -> expected.contains(result.exampleCaseId())).count();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("| %d | %s | %.3f | %.3f | %.3f | %.0f |%n",
+                size, engine.name(), hits / (double) (measured * k),
+                percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6, measured / elapsedSeconds);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    // 스칼라 전수 비교로 구한 질의별 정답 top-k
+    private static List<Set<UUID>> groundTruth(SyntheticCorpus corpus, float[][] queries, int k) {
+        float[][] normalized = new float[corpus.size()][];
+        for (int i = 0; i < corpus.size(); i++) {
+            normalized[i] = VectorMath.normalize(corpus.vector(i), SyntheticCorpus.DIMENSION);
+        }
+        List<Set<UUID>> truth = new ArrayList<>(queries.length);
+        for (float[] query : queries) {
+            float[] q = VectorMath.normalize(query, SyntheticCorpus.DIMENSION);
+            int[] best = new int[k];
+            double[] bestScores = new double[k];
+            Arrays.fill(bestScores, Double.NEGATIVE_INFINITY);
+            for (int row = 0; row < normalized.length; row++) {
+                double dot = 0;
+                float[] v = normalized[row];
+                for (int i = 0; i < q.length; i++) {
+                    dot += (double) q[i] * v[i];
+                }
+                if (dot > bestScores[k - 1]) {
+                    int i = k - 1;
+                    while (i > 0 && bestScores[i - 1] < dot) {
+                        bestScores[i] = bestScores[i - 1];
+                        best[i] = best[i - 1];
+                        i--;
+                    }
+                    bestScores[i] = dot;
+                    best[i] = row;
+                }
+            }
+            Set<UUID> ids = new HashSet<>();
+            for (int row : best) {
+                ids.add(corpus.id(row));
+            }
+            truth.add(ids);
+        }
+        return truth;
+    }
+
+    private static int[] intList(String property, String defaultValue) {
+        return Arrays.stream(System.getProperty(property, defaultValue).split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    // 그래프 하나를 ef만 바꿔 측정
+    private static final class HnswEngine implements BenchmarkEngine {
+
+        private final HnswIndex index;
+        private final int ef;
+
+        private HnswEngine(HnswIndex index, int ef) {
+            this.index = index;
+            this.ef = ef;
+        }
+
+        private static HnswEngine build(SyntheticCorpus corpus, int ef) {
+            var index = new HnswIndex(SyntheticCorpus.DIMENSION,
+                    Integer.getInteger("bench.hnsw.m", 16), Integer.getInteger("bench.hnsw.ef-construction", 200), 42);
+            for (int i = 0; i < corpus.size(); i++) {
+                index.add(corpus.id(i), corpus.vector(i));
+            }
+            return new HnswEngine(index, ef);
+        }
+
+        private HnswEngine withEf(int ef) {
+            return new HnswEngine(index, ef);
+        }
+
+        @Override
+        public String name() {
+            return "hnsw(ef=" + ef + ")";
+        }
+
+        @Override
+        public List<SimilarCase> search(float[] query, int k) {
+            return index.search(query, k, ef);
+        }
+    }
+
+    /**
+     * 서비스의 pgvector 검색 경로를 그대로 구성 (별도 스키마의 example_case 테이블 사용)
+     */
+    private static final class PgvectorBench implements AutoCloseable {
+
+        private static final int INSERT_BATCH = 1000;
+
+        private final AnnotationConfigApplicationContext context;
+        private final ExampleCaseVectorRepository repository;
+        private final PgvectorIndexManager indexManager;
+
+        private PgvectorBench(String jdbcUrl) {
+            context = new AnnotationConfigApplicationContext();
+            // 코퍼스에 category가 없으므로 category 부분 인덱스는 만들지 않음
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("bench",
+                    Map.of("similar-case.pgvector.index.partition-by-category", "false")));
+            context.registerBean("benchDataSource", DataSource.class, () -> dataSource(jdbcUrl));
+            context.register(Config.class, PgvectorIndexManager.class, ExampleCaseVectorRepositoryImpl.class);
+            context.refresh();
+            repository = context.getBean(ExampleCaseVectorRepositoryImpl.class);
+            indexManager = context.getBean(PgvectorIndexManager.class);
+        }
+
+        private String indexType() {
+            return System.getProperty("similar-case.pgvector.index.type", "hnsw");
+        }
+
+        // 테이블을 새로 만들고 코퍼스 적재 → ANN 인덱스 구축 → ANALYZE
+        private void load(SyntheticCorpus corpus) throws InterruptedException {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            jdbcTemplate.execute("DROP TABLE IF EXISTS example_case");
+            jdbcTemplate.execute("CREATE TABLE example_case (id uuid PRIMARY KEY, case_content text, " +
+                    "category varchar(255), embedding vector(768), duplicate_of uuid)");
+
+            TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            List<ExampleCaseRow> batch = new ArrayList<>(INSERT_BATCH);
+            for (int i = 0; i < corpus.size(); i++) {
+                batch.add(new ExampleCaseRow(corpus.id(i), null, null, corpus.vector(i)));
+                if (batch.size() == INSERT_BATCH || i == corpus.size() - 1) {
+                    List<ExampleCaseRow> rows = List.copyOf(batch);
+                    transaction.executeWithoutResult(status -> repository.insertAll(rows));
+                    batch.clear();
+                }
+            }
+
+            if (indexManager.rebuildAsync()) {
+                while (indexManager.buildStatus().state() == PgvectorIndexManager.BuildState.BUILDING) {
+                    Thread.sleep(500);
+                }
+                if (indexManager.buildStatus().state() == PgvectorIndexManager.BuildState.FAILED) {
+                    throw new IllegalStateException("pgvector 인덱스 구축 실패: " + indexManager.buildStatus().error());
+                }
+            }
+            jdbcTemplate.execute("ANALYZE example_case");
+        }
+
+        @Override
+        public void close() {
+            context.close();
+        }
+
+        private static DataSource dataSource(String jdbcUrl) {
+            String schema = System.getProperty("bench.jdbc.schema", "redflag_bench");
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(jdbcUrl,
+                    System.getProperty("bench.jdbc.user", "postgres"), System.getProperty("bench.jdbc.password", ""));
+            JdbcTemplate bootstrap = new JdbcTemplate(dataSource);
+            bootstrap.execute("CREATE EXTENSION IF NOT EXISTS vector");
+            bootstrap.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+            // 벤치마크 테이블만 별도 스키마에 두고 vector 타입은 public에서 찾음
+            Properties properties = new Properties();
+            properties.setProperty("currentSchema", schema + ",public");
+            dataSource.setConnectionProperties(properties);
+            return dataSource;
+        }
+
+        @Configuration
+        static class Config {
+
+            @Bean
+            JdbcTemplate jdbcTemplate(DataSource dataSource) {
+                return new JdbcTemplate(dataSource);
+            }
+
+            @Bean
+            PlatformTransactionManager transactionManager(DataSource dataSource) {
+                return new DataSourceTransactionManager(dataSource);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.redflag.redflag.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 검색 벤치마크용 768차원 코퍼스
+ * - generate: 군집 중심 주변에 가우시안 잡음을 더한 벡터 (실제 임베딩처럼 군집 구조가 있어야 ANN 재현율이 의미 있음)
+ * - load: 원시 float32 little-endian 파일 (벡터당 768 * 4 bytes, 실제 임베딩 덤프 사용 시)
+ * 질의는 코퍼스에 없는 같은 분포의 벡터 (같은 seed면 항상 같은 코퍼스/질의)
+ */
+public final class SyntheticCorpus {
+
+    public static final int DIMENSION = 768;
+
+    private final UUID[] ids;
+    private final float[][] vectors;
+    private final float[][] centers;
+    private final float noise;
+    private final Random random;
+
+    private SyntheticCorpus(float[][] vectors, float[][] centers, float noise, long seed) {
+        this.vectors = vectors;
+        this.centers = centers;
+        this.noise = noise;
+        this.random = new Random(seed ^ 0x5DEECE66DL);
+        this.ids = new UUID[vectors.length];
+        Random idRandom = new Random(seed);
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = new UUID(idRandom.nextLong(), idRandom.nextLong());
+        }
+    }
+
+    /**
+     * @param clusters 군집 수 (사례 유형 수에 해당)
+     * @param noise 군집 중심 성분 크기 대비 차원별 잡음 표준편차 (클수록 군집이 퍼짐)
+     */
+    public static SyntheticCorpus generate(int size, int clusters, float noise, long seed) {
+        Random random = new Random(seed);
+        float[][] centers = new float[clusters][DIMENSION];
+        for (float[] center : centers) {
+            for (int i = 0; i < DIMENSION; i++) {
+                center[i] = (float) random.nextGaussian();
+            }
+        }
+        float[][] vectors = new float[size][];
+        for (int n = 0; n < size; n++) {
+            vectors[n] = around(centers[random.nextInt(clusters)], noise, random);
+        }
+        return new SyntheticCorpus(vectors, centers, noise, seed);
+    }
+
+    // 원시 float32 파일에서 앞에서부터 최대 size개 (질의는 파일 벡터에 잡음을 더해 생성)
+    public static SyntheticCorpus load(Path file, int size, long seed) throws IOException {
+        List<float[]> loaded = new ArrayList<>();
+        byte[] row = new byte[DIMENSION * Float.BYTES];
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (loaded.size() < size) {
+                try {
+                    in.readFully(row);
+                } catch (EOFException e) {
+                    break;
+                }
+                float[] vector = new float[DIMENSION];
+                ByteBuffer.wrap(row).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+                loaded.add(vector);
+            }
+        }
+        float[][] vectors = loaded.toArray(new float[0][]);
+        return new SyntheticCorpus(vectors, vectors, 0.3f, seed);
+    }
+
+    // 코퍼스와 같은 분포의 질의 벡터
+    public float[][] queries(int count) {
+        float[][] queries = new float[count][];
+        for (int q = 0; q < count; q++) {
+            queries[q] = around(centers[random.nextInt(centers.length)], noise, random);
+        }
+        return queries;
+    }
+
+    public int size() {
+        return vectors.length;
+    }
+
+    public UUID id(int row) {
+        return ids[row];
+    }
+
+    public float[] vector(int row) {
+        return vectors[row];
+    }
+
+    // 잡음은 중심 벡터의 성분 크기(RMS)에 비례 (정규화된 실제 임베딩에도 같은 noise 값 사용 가능)
+    private static float[] around(float[] center, float noise, Random random) {
+        double sumSquares = 0;
+        for (float v : center) {
+            sumSquares += v * v;
+        }
+        float scale = noise * (float) Math.sqrt(sumSquares / DIMENSION);
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = center[i] + (float) random.nextGaussian() * scale;
+        }
+        return vector;
+    }
+}
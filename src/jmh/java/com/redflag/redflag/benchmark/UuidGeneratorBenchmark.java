@@ -0,0 +1,31 @@
+package com.redflag.redflag.benchmark;
+
+import com.redflag.redflag.global.id.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 키 생성 비용 비교 (v4: UUID.randomUUID, v7: UuidV7Generator)
+ * 여러 스레드가 동시에 INSERT하는 상황을 보기 위해 4스레드로 측정 (v7은 공유 순번 CAS 경합 포함)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class UuidGeneratorBenchmark {
+
+    @Benchmark
+    public UUID v4() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID v7() {
+        return UuidV7Generator.next();
+    }
+}
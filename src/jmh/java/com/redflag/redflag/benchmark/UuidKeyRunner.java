@@ -0,0 +1,120 @@
+package com.redflag.redflag.benchmark;
+
+import com.redflag.redflag.global.id.UuidV7Generator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
+
+/**
+ * 기본 키 UUID 버전별 INSERT 처리량과 인덱스 크기 비교 (PostgreSQL)
+ * - v4: 기존 GenerationType.UUID (UUID.randomUUID)
+ * - v7: UuidV7Generator (시간 순서)
+ * - v4-v7: 앞 절반은 v4, 뒤 절반은 v7 (기존 v4 행이 있는 테이블에 전환하는 경우)
+ * analysis_history와 같은 모양의 테이블에 bench.rows건을 배치 INSERT하며 구간별 처리량을 기록하고,
+ * 끝나면 기본 키 인덱스/테이블 크기를 잼 (무작위 키는 인덱스가 shared_buffers를 넘는 시점부터 처리량이 떨어짐)
+ * 실행: ./gradlew uuidKeys -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/redflag [-Dbench.rows=5000000]
+ *
+ * 시스템 프로퍼티
+ * - bench.rows (2000000), bench.batch (1000), bench.keys (v4,v7,v4-v7)
+ * - bench.jdbc.url (필수) / bench.jdbc.user / bench.jdbc.password / bench.jdbc.schema (redflag_bench)
+ */
+public final class UuidKeyRunner {
+
+    private static final int INTERVALS = 10;
+
+    private UuidKeyRunner() {
+    }
+
+    public static void main(String[] args) {
+        String jdbcUrl = System.getProperty("bench.jdbc.url");
+        if (jdbcUrl == null) {
+            throw new IllegalArgumentException("bench.jdbc.url 프로퍼티가 필요합니다.");
+        }
+        long rows = Long.getLong("bench.rows", 2_000_000L);
+        int batch = Integer.getInteger("bench.batch", 1000);
+        String[] keys = System.getProperty("bench.keys", "v4,v7,v4-v7").split(",");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource(jdbcUrl));
+
+        System.out.println("| keys | rows | total (s) | rows/s | rows/s (first 10%) | rows/s (last 10%) "
+                + "| pk index (MB) | table (MB) |");
+        System.out.println("|---|---:|---:|---:|---:|---:|---:|---:|");
+        for (String key : keys) {
+            run(jdbcTemplate, key.trim(), rows, batch);
+        }
+    }
+
+    private static void run(JdbcTemplate jdbcTemplate, String key, long rows, int batch) {
+        LongFunction<UUID> ids = switch (key) {
+            case "v4" -> row -> UUID.randomUUID();
+            case "v7" -> row -> UuidV7Generator.next();
+            case "v4-v7" -> row -> row < rows / 2 ? UUID.randomUUID() : UuidV7Generator.next();
+            default -> throw new IllegalArgumentException("알 수 없는 키 종류: " + key);
+        };
+        String table = "uuid_bench_" + key.replace('-', '_');
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, user_id uuid NOT NULL, "
+                + "risk_score integer, risk_level varchar(255), status varchar(20) NOT NULL, "
+                + "created_at timestamp NOT NULL)");
+
+        String sql = "INSERT INTO " + table + " (id, user_id, risk_score, risk_level, status, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        long interval = Math.max(1, rows / INTERVALS);
+        double[] intervalRates = new double[INTERVALS];
+        long start = System.nanoTime();
+        long intervalStart = start;
+
+        List<Object[]> args = new ArrayList<>(batch);
+        for (long row = 0; row < rows; row++) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int riskScore = random.nextInt(100);
+            args.add(new Object[]{ids.apply(row), UUID.randomUUID(), riskScore,
+                    riskScore >= 70 ? "HIGH" : riskScore >= 40 ? "MEDIUM" : "LOW", "COMPLETED",
+                    new Timestamp(System.currentTimeMillis())});
+            if (args.size() == batch || row == rows - 1) {
+                jdbcTemplate.batchUpdate(sql, args);
+                args.clear();
+            }
+            if ((row + 1) % interval == 0 && (row + 1) / interval <= INTERVALS) {
+                long now = System.nanoTime();
+                intervalRates[(int) ((row + 1) / interval) - 1] = interval / ((now - intervalStart) / 1e9);
+                intervalStart = now;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Long indexBytes = jdbcTemplate.queryForObject(
+                "SELECT pg_relation_size(?::regclass)", Long.class, table + "_pkey");
+        Long tableBytes = jdbcTemplate.queryForObject(
+                "SELECT pg_relation_size(?::regclass)", Long.class, table);
+
+        System.out.printf("| %s | %d | %.1f | %.0f | %.0f | %.0f | %.1f | %.1f |%n",
+                key, rows, seconds, rows / seconds, intervalRates[0], intervalRates[INTERVALS - 1],
+                indexBytes / 1048576.0, tableBytes / 1048576.0);
+
+        jdbcTemplate.execute("DROP TABLE " + table);
+    }
+
+    // 배치마다 연결을 새로 맺지 않도록 연결 하나를 재사용 (서비스와 같은 reWriteBatchedInserts 설정)
+    private static SingleConnectionDataSource dataSource(String jdbcUrl) {
+        String schema = System.getProperty("bench.jdbc.schema", "redflag_bench");
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(jdbcUrl,
+                System.getProperty("bench.jdbc.user", "postgres"), System.getProperty("bench.jdbc.password", ""), true);
+        Properties properties = new Properties();
+        properties.setProperty("reWriteBatchedInserts", "true");
+        dataSource.setConnectionProperties(properties);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+        jdbcTemplate.execute("SET search_path TO " + schema);
+        return dataSource;
+    }
+}
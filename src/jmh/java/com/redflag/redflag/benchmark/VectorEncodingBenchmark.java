@@ -0,0 +1,57 @@
+package com.redflag.redflag.benchmark;
+
+import com.pgvector.PGvector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유사도 검색 파라미터 인코딩 비용 비교 (768차원 임베딩 1건)
+ * - text: 기존 방식, StringBuilder로 "[f1,f2,...]" 생성 후 CAST(? AS vector)로 서버에서 다시 파싱
+ * - binary: PGvector 바이너리 형식 (드라이버가 전송하는 바이트 배열 그대로)
+ * gc 프로파일러의 gc.alloc.rate.norm 값으로 요청당 할당량 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorEncodingBenchmark {
+
+    private float[] embedding;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        embedding = new float[768];
+        for (int i = 0; i < embedding.length; i++) {
+            embedding[i] = (float) random.nextGaussian();
+        }
+    }
+
+    @Benchmark
+    public String text() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < embedding.length; i++) {
+            sb.append(embedding[i]);
+            if (i < embedding.length - 1) {
+                sb.append(",");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    @Benchmark
+    public byte[] binary() {
+        PGvector vector = new PGvector(embedding);
+        byte[] bytes = new byte[vector.lengthInBytes()];
+        vector.toBytes(bytes, 0);
+        return bytes;
+    }
+}
@@ -0,0 +1,62 @@
+package com.redflag.redflag.benchmark;
+
+import com.redflag.redflag.analysis.search.SimilarCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 검색 방식별 top-k 검색 지연/처리량 (768차원 합성 코퍼스)
+ * SampleTime 결과의 p0.50/p0.99가 지연 분위수, Throughput 결과가 초당 검색 수
+ * 재현율과 pgvector 비교는 RecallRunner 사용
+ * 실행: ./gradlew jmh -PjmhIncludes=VectorSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VectorSearchBenchmark {
+
+    private static final int QUERY_COUNT = 256;
+
+    @Param({"10000", "50000"})
+    private int corpusSize;
+
+    @Param({"exact", "hnsw", "quantized"})
+    private String engine;
+
+    @Param({"3"})
+    private int k;
+
+    private BenchmarkEngine searchEngine;
+    private float[][] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticCorpus corpus = SyntheticCorpus.generate(corpusSize, 64, 0.8f, 42);
+        queries = corpus.queries(QUERY_COUNT);
+        // 서비스 기본 설정과 같은 파라미터 (similar-case.hnsw.*, similar-case.quantized.shortlist)
+        searchEngine = switch (engine) {
+            case "exact" -> BenchmarkEngine.exact(corpus);
+            case "hnsw" -> BenchmarkEngine.hnsw(corpus, 16, 200, 64);
+            case "quantized" -> BenchmarkEngine.quantized(corpus, 30);
+            default -> throw new IllegalArgumentException(engine);
+        };
+    }
+
+    @Benchmark
+    public List<SimilarCase> search() {
+        float[] query = queries[next];
+        next = (next + 1) % QUERY_COUNT;
+        return searchEngine.search(query, k);
+    }
+}
@@ -0,0 +1,43 @@
+package com.redflag.redflag.admin.controller;
+
+import com.redflag.redflag.admin.dto.ConsolidationReportResponse;
+import com.redflag.redflag.admin.service.ExampleCaseConsolidationService;
+import com.redflag.redflag.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin - Example Case Consolidation", description = "유사 사례 근접 중복 통합 API (X-Admin-Key 필요)")
+@SecurityRequirement(name = "AdminKey")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/example-cases/consolidation")
+public class ExampleCaseConsolidationAdminController {
+
+    private final ExampleCaseConsolidationService exampleCaseConsolidationService;
+
+    @Operation(summary = "근접 중복 통합 실행",
+            description = "같은 category에서 코사인 유사도가 기준 이상인 사례를 대표 사례로 통합합니다. 통합된 사례는 유사 사례 검색에서 제외됩니다. 백그라운드에서 실행되며 결과는 조회 API로 확인합니다.")
+    @PostMapping
+    public ApiResponse<ConsolidationReportResponse> start(
+            @Parameter(description = "코사인 유사도 기준 (미지정 시 설정값)", example = "0.97")
+            @RequestParam(required = false) Double threshold,
+            @Parameter(description = "true면 결과만 계산하고 반영하지 않음")
+            @RequestParam(defaultValue = "false") boolean dryRun
+    ) {
+        return ApiResponse.onSuccess(exampleCaseConsolidationService.start(threshold, dryRun));
+    }
+
+    @Operation(summary = "근접 중복 통합 결과 조회", description = "마지막 통합 작업의 상태와 통합 결과를 조회합니다.")
+    @GetMapping
+    public ApiResponse<ConsolidationReportResponse> getLastReport() {
+        return ApiResponse.onSuccess(exampleCaseConsolidationService.getLastReport());
+    }
+}
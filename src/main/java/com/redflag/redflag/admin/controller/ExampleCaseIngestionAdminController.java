@@ -0,0 +1,62 @@
+package com.redflag.redflag.admin.controller;
+
+import com.redflag.redflag.admin.dto.IngestionJobResponse;
+import com.redflag.redflag.admin.service.ExampleCaseIngestionService;
+import com.redflag.redflag.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@Tag(name = "Admin - Example Case Ingestion", description = "유사 사례 데이터 일괄 적재 API (X-Admin-Key 필요)")
+@SecurityRequirement(name = "AdminKey")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/example-cases/ingestions")
+public class ExampleCaseIngestionAdminController {
+
+    private final ExampleCaseIngestionService exampleCaseIngestionService;
+
+    @Operation(summary = "사례 일괄 적재 시작",
+            description = "요청 본문(application/x-ndjson 또는 text/csv)을 그대로 스트리밍해 저장한 뒤 백그라운드에서 임베딩/적재합니다. " +
+                    "NDJSON은 한 줄에 {\"case_content\": \"...\", \"category\": \"...\"}, CSV는 case_content, category 헤더가 필요합니다.")
+    @PostMapping(consumes = {"application/x-ndjson", "text/csv"})
+    public ApiResponse<IngestionJobResponse> start(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(description = "원본 파일 이름 (기록용)")
+            @RequestParam(required = false) String fileName,
+            HttpServletRequest request
+    ) throws IOException {
+        return ApiResponse.onSuccess(
+                exampleCaseIngestionService.start(request.getInputStream(), contentType, fileName));
+    }
+
+    @Operation(summary = "적재 작업 상태 조회", description = "처리/추가/건너뛴 레코드 수와 작업 상태를 조회합니다.")
+    @GetMapping("/{jobId}")
+    public ApiResponse<IngestionJobResponse> getJob(
+            @PathVariable UUID jobId
+    ) {
+        return ApiResponse.onSuccess(exampleCaseIngestionService.getJob(jobId));
+    }
+
+    @Operation(summary = "실패한 적재 작업 재개", description = "마지막으로 커밋한 레코드 다음부터 다시 적재합니다.")
+    @PostMapping("/{jobId}/resume")
+    public ApiResponse<IngestionJobResponse> resume(
+            @PathVariable UUID jobId
+    ) {
+        return ApiResponse.onSuccess(exampleCaseIngestionService.resume(jobId));
+    }
+}
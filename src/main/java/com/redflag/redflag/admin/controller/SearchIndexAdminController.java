@@ -0,0 +1,35 @@
+package com.redflag.redflag.admin.controller;
+
+import com.redflag.redflag.admin.dto.SearchIndexStatusResponse;
+import com.redflag.redflag.admin.service.SearchIndexAdminService;
+import com.redflag.redflag.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin - Search Index", description = "유사 사례 검색 인덱스 관리 API (X-Admin-Key 필요)")
+@SecurityRequirement(name = "AdminKey")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/search-index")
+public class SearchIndexAdminController {
+
+    private final SearchIndexAdminService searchIndexAdminService;
+
+    @Operation(summary = "검색 인덱스 상태 조회", description = "현재 사용 중인 검색 엔진, 엔진별 상태, pgvector ANN 인덱스 크기/구축 상태를 조회합니다.")
+    @GetMapping
+    public ApiResponse<SearchIndexStatusResponse> getStatus() {
+        return ApiResponse.onSuccess(searchIndexAdminService.getStatus());
+    }
+
+    @Operation(summary = "pgvector 인덱스 재구축", description = "현재 설정값(similar-case.pgvector.*)으로 ANN 인덱스를 백그라운드에서 다시 만듭니다.")
+    @PostMapping("/rebuild")
+    public ApiResponse<SearchIndexStatusResponse> rebuild() {
+        return ApiResponse.onSuccess(searchIndexAdminService.rebuildPgvectorIndex());
+    }
+}
@@ -0,0 +1,41 @@
+package com.redflag.redflag.admin.domain;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 사례 적재 파일 형식
+ * - NDJSON: 한 줄에 JSON 객체 하나 {"case_content": "...", "category": "..."} (caseContent도 허용)
+ * - CSV: 첫 줄 헤더에 case_content, category 컬럼 (RFC 4180 따옴표 규칙)
+ */
+public enum IngestionFormat {
+    NDJSON("application/x-ndjson", ".ndjson"),
+    CSV("text/csv", ".csv");
+
+    private final String contentType;
+    private final String extension;
+
+    IngestionFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    // Content-Type 헤더(파라미터 제외)로 형식 판별
+    public static Optional<IngestionFormat> fromContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        String mediaType = contentType.split(";")[0].trim();
+        return Arrays.stream(values())
+                .filter(format -> format.contentType.equalsIgnoreCase(mediaType))
+                .findFirst();
+    }
+}
@@ -0,0 +1,62 @@
+package com.redflag.redflag.admin.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * ExampleCase 일괄 적재 작업
+ * processed_records는 배치 INSERT와 같은 트랜잭션에서 갱신되므로, 실패 후 재개 시 이 위치부터 다시 읽으면 중복/누락 없음
+ */
+@Entity
+@Table(name = "ingestion_job")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngestionJob {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", length = 20, nullable = false)
+    private IngestionFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private IngestionStatus status;
+
+    // 파일에서 읽은 레코드 수 (건너뛴 레코드 포함)
+    @Column(name = "processed_records", nullable = false)
+    private long processedRecords;
+
+    @Column(name = "inserted_count", nullable = false)
+    private long insertedCount;
+
+    // 내용이 비어 있거나 형식이 잘못된 레코드 수
+    @Column(name = "skipped_count", nullable = false)
+    private long skippedCount;
+
+    @Column(name = "failure_reason", columnDefinition = "TEXT")
+    private String failureReason;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
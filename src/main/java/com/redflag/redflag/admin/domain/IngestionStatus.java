@@ -0,0 +1,8 @@
+package com.redflag.redflag.admin.domain;
+
+public enum IngestionStatus {
+    PENDING,    // 업로드 완료, 적재 대기
+    RUNNING,    // 적재 중
+    COMPLETED,  // 적재 완료
+    FAILED      // 실패 (처리한 위치부터 재개 가능)
+}
@@ -0,0 +1,58 @@
+package com.redflag.redflag.admin.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "사례 근접 중복 통합 결과")
+public record ConsolidationReportResponse(
+        @Schema(description = "작업 상태 (RUNNING, COMPLETED, FAILED)", example = "COMPLETED")
+        String status,
+
+        @Schema(description = "미리보기 여부 (true면 DB에 반영하지 않음)", example = "false")
+        Boolean dryRun,
+
+        @Schema(description = "중복으로 판단한 코사인 유사도 기준", example = "0.97")
+        Double threshold,
+
+        @Schema(description = "검사한 사례 수", example = "120000")
+        Long scannedCount,
+
+        @Schema(description = "대표 사례 수 (통합 후 검색 대상)", example = "84000")
+        Long representativeCount,
+
+        @Schema(description = "대표 사례로 통합된 사례 수", example = "36000")
+        Long duplicateCount,
+
+        @Schema(description = "이번 작업에서 새로 통합된 사례 수", example = "1200")
+        Long newlyMerged,
+
+        @Schema(description = "이번 작업에서 통합이 해제된 사례 수 (기준 상향 등)", example = "0")
+        Long restored,
+
+        @Schema(description = "통합된 사례가 많은 대표 사례 목록")
+        List<Cluster> largestClusters,
+
+        @Schema(description = "시작 시각")
+        LocalDateTime startedAt,
+
+        @Schema(description = "완료/실패 시각")
+        LocalDateTime finishedAt,
+
+        @Schema(description = "실패 사유")
+        String error
+) {
+    @Schema(description = "대표 사례와 통합된 사례 수")
+    public record Cluster(
+            @Schema(description = "대표 사례 ID")
+            UUID representativeId,
+
+            @Schema(description = "카테고리", example = "대출사기")
+            String category,
+
+            @Schema(description = "통합된 사례 수 (대표 사례 제외)", example = "57")
+            Integer duplicateCount
+    ) {}
+}
@@ -0,0 +1,58 @@
+package com.redflag.redflag.admin.dto;
+
+import com.redflag.redflag.admin.domain.IngestionJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "사례 적재 작업 상태")
+public record IngestionJobResponse(
+        @Schema(description = "작업 ID")
+        UUID jobId,
+
+        @Schema(description = "업로드 파일 이름", example = "cases-2026-10.ndjson")
+        String fileName,
+
+        @Schema(description = "파일 형식 (NDJSON, CSV)", example = "NDJSON")
+        String format,
+
+        @Schema(description = "작업 상태 (PENDING, RUNNING, COMPLETED, FAILED)", example = "RUNNING")
+        String status,
+
+        @Schema(description = "파일에서 읽어 커밋한 레코드 수 (재개 위치)", example = "120000")
+        Long processedRecords,
+
+        @Schema(description = "추가한 사례 수", example = "119870")
+        Long insertedCount,
+
+        @Schema(description = "내용이 비어 있거나 형식이 잘못되어 건너뛴 레코드 수", example = "130")
+        Long skippedCount,
+
+        @Schema(description = "실패 사유")
+        String failureReason,
+
+        @Schema(description = "생성 시각")
+        LocalDateTime createdAt,
+
+        @Schema(description = "마지막 진행 시각")
+        LocalDateTime updatedAt,
+
+        @Schema(description = "완료/실패 시각")
+        LocalDateTime finishedAt
+) {
+    public static IngestionJobResponse from(IngestionJob job) {
+        return new IngestionJobResponse(
+                job.getId(),
+                job.getFileName(),
+                job.getFormat().name(),
+                job.getStatus().name(),
+                job.getProcessedRecords(),
+                job.getInsertedCount(),
+                job.getSkippedCount(),
+                job.getFailureReason(),
+                job.getCreatedAt(),
+                job.getUpdatedAt(),
+                job.getFinishedAt());
+    }
+}
@@ -0,0 +1,82 @@
+package com.redflag.redflag.admin.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "유사 사례 검색 인덱스 상태")
+public record SearchIndexStatusResponse(
+        @Schema(description = "검색 대상 사례 수 (임베딩이 있고 다른 사례로 통합되지 않은 사례)", example = "12000")
+        Long caseCount,
+
+        @Schema(description = "설정된 검색 엔진 (similar-case.search.engine)", example = "hnsw")
+        String configuredEngine,
+
+        @Schema(description = "현재 검색에 사용 중인 엔진 (설정 엔진을 사용할 수 없으면 pgvector)", example = "hnsw")
+        String activeEngine,
+
+        @Schema(description = "pgvector ANN 인덱스 상태")
+        PgvectorIndex pgvector,
+
+        @Schema(description = "등록된 검색 엔진별 상태")
+        List<EngineStatus> engines
+) {
+    @Schema(description = "pgvector ANN 인덱스 상태")
+    public record PgvectorIndex(
+            @Schema(description = "구축 상태 (NOT_BUILT, BUILDING, READY, FAILED)", example = "READY")
+            String state,
+
+            @Schema(description = "인덱스 정의 (CREATE INDEX 문)")
+            String definition,
+
+            @Schema(description = "인덱스 크기 (bytes)", example = "98304000")
+            Long sizeBytes,
+
+            @Schema(description = "구축 시작 시각")
+            LocalDateTime startedAt,
+
+            @Schema(description = "구축 완료 시각")
+            LocalDateTime finishedAt,
+
+            @Schema(description = "구축 실패 사유")
+            String error,
+
+            @Schema(description = "구축 진행 상황 (pg_stat_progress_create_index)")
+            Map<String, Object> progress,
+
+            @Schema(description = "검색 시 hnsw.ef_search", example = "40")
+            Integer efSearch,
+
+            @Schema(description = "검색 시 ivfflat.probes", example = "10")
+            Integer probes,
+
+            @Schema(description = "category별 부분 ANN 인덱스")
+            List<CategoryIndex> categoryIndexes
+    ) {}
+
+    @Schema(description = "category별 부분 ANN 인덱스")
+    public record CategoryIndex(
+            @Schema(description = "인덱스 이름", example = "idx_example_case_embedding_c_3f2a9b1c0d4e")
+            String name,
+
+            @Schema(description = "인덱스 정의 (CREATE INDEX 문)")
+            String definition,
+
+            @Schema(description = "인덱스 크기 (bytes)", example = "8192000")
+            Long sizeBytes
+    ) {}
+
+    @Schema(description = "검색 엔진 상태")
+    public record EngineStatus(
+            @Schema(description = "엔진 이름 (exact, hnsw, pgvector, quantized)", example = "hnsw")
+            String name,
+
+            @Schema(description = "검색 가능 여부 (인메모리 엔진은 인덱스 구축 완료)", example = "true")
+            Boolean available,
+
+            @Schema(description = "인메모리 인덱스에 포함된 사례 수 (pgvector는 null)", example = "12000")
+            Integer size
+    ) {}
+}
@@ -0,0 +1,54 @@
+package com.redflag.redflag.admin.repository;
+
+import com.redflag.redflag.admin.domain.IngestionJob;
+import com.redflag.redflag.admin.domain.IngestionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface IngestionJobRepository extends JpaRepository<IngestionJob, UUID> {
+
+    /**
+     * 적재 진행 위치 갱신 (배치 INSERT와 같은 트랜잭션에서 호출)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE IngestionJob j " +
+           "SET j.processedRecords = :processedRecords, j.insertedCount = :insertedCount, " +
+           "j.skippedCount = :skippedCount, j.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE j.id = :jobId")
+    int updateProgress(
+            @Param("jobId") UUID jobId,
+            @Param("processedRecords") long processedRecords,
+            @Param("insertedCount") long insertedCount,
+            @Param("skippedCount") long skippedCount
+    );
+
+    /**
+     * 작업 상태 갱신 (완료/실패 시 finishedAt 전달, 진행 중이면 null)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE IngestionJob j " +
+           "SET j.status = :status, j.failureReason = :failureReason, " +
+           "j.updatedAt = CURRENT_TIMESTAMP, j.finishedAt = :finishedAt " +
+           "WHERE j.id = :jobId")
+    int updateStatus(
+            @Param("jobId") UUID jobId,
+            @Param("status") IngestionStatus status,
+            @Param("failureReason") String failureReason,
+            @Param("finishedAt") LocalDateTime finishedAt
+    );
+
+    /**
+     * 재시작 시 중단된 작업 조회
+     */
+    List<IngestionJob> findByStatus(IngestionStatus status);
+}
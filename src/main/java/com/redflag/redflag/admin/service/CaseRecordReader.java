@@ -0,0 +1,186 @@
+package com.redflag.redflag.admin.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redflag.redflag.admin.domain.IngestionFormat;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 적재 파일을 한 레코드씩 읽는 스트리밍 리더 (파일 전체를 메모리에 올리지 않음)
+ * 형식이 잘못되었거나 내용이 빈 레코드도 하나의 레코드로 세어(caseContent = null) 재개 위치가 어긋나지 않게 함
+ */
+abstract class CaseRecordReader implements Closeable {
+
+    record CaseRecord(String caseContent, String category) {
+
+        boolean isValid() {
+            return caseContent != null && !caseContent.isBlank();
+        }
+    }
+
+    private static final CaseRecord INVALID = new CaseRecord(null, null);
+
+    protected final BufferedReader reader;
+
+    private CaseRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static CaseRecordReader open(Path path, IngestionFormat format, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        try {
+            return format == IngestionFormat.CSV ? new Csv(reader) : new Ndjson(reader, objectMapper);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    // 다음 레코드 (파일 끝이면 null)
+    abstract CaseRecord next() throws IOException;
+
+    // 앞에서부터 count개 레코드 건너뛰기 (재개 시), 실제로 건너뛴 수 반환
+    long skip(long count) throws IOException {
+        long skipped = 0;
+        while (skipped < count && next() != null) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    // 한 줄에 JSON 객체 하나, 빈 줄은 레코드로 세지 않음
+    private static final class Ndjson extends CaseRecordReader {
+
+        private final ObjectMapper objectMapper;
+
+        private Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        CaseRecord next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                JsonNode content = node.has("case_content") ? node.get("case_content") : node.get("caseContent");
+                JsonNode category = node.get("category");
+                return new CaseRecord(
+                        content == null || content.isNull() ? null : content.asText(),
+                        category == null || category.isNull() ? null : blankToNull(category.asText()));
+            } catch (IOException e) {
+                return INVALID;
+            }
+        }
+    }
+
+    /**
+     * RFC 4180 CSV (따옴표 안의 쉼표/줄바꿈, "" 이스케이프 지원)
+     * 첫 줄 헤더에서 case_content(또는 content), category 컬럼 위치를 찾음
+     */
+    private static final class Csv extends CaseRecordReader {
+
+        private final int contentColumn;
+        private final int categoryColumn;
+
+        private Csv(BufferedReader reader) throws IOException {
+            super(reader);
+            List<String> header = readRow();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            List<String> names = header.stream()
+                    .map(name -> name.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT))
+                    .toList();
+            int content = names.indexOf("case_content");
+            this.contentColumn = content >= 0 ? content : names.indexOf("content");
+            this.categoryColumn = names.indexOf("category");
+            if (contentColumn < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 case_content 컬럼이 없습니다.");
+            }
+        }
+
+        @Override
+        CaseRecord next() throws IOException {
+            List<String> row;
+            do {
+                row = readRow();
+                if (row == null) {
+                    return null;
+                }
+            } while (row.size() == 1 && row.get(0).isEmpty());
+
+            if (row.size() <= contentColumn) {
+                return INVALID;
+            }
+            String category = categoryColumn >= 0 && categoryColumn < row.size() ? row.get(categoryColumn) : null;
+            return new CaseRecord(row.get(contentColumn), blankToNull(category));
+        }
+
+        // 레코드 하나 (파일 끝이면 null)
+        private List<String> readRow() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (following != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.redflag.redflag.admin.service;
+
+import com.redflag.redflag.admin.dto.ConsolidationReportResponse;
+import com.redflag.redflag.analysis.repository.ExampleCaseRepository;
+import com.redflag.redflag.analysis.search.ExampleCaseChangedEvent;
+import com.redflag.redflag.analysis.search.ExampleCaseVectorLoader;
+import com.redflag.redflag.analysis.search.HnswIndex;
+import com.redflag.redflag.analysis.search.SimilarCase;
+import com.redflag.redflag.global.exception.GeneralException;
+import com.redflag.redflag.global.exception.code.status.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ExampleCase 근접 중복 통합 (오프라인 배치)
+ * - category별로 대표 사례 HNSW 인덱스를 유지하며 사례를 순서대로 검사 (greedy leader clustering)
+ *   가장 가까운 대표 사례와의 코사인 유사도가 threshold 이상이면 그 사례로 통합(duplicate_of), 아니면 새 대표 사례
+ * - 기존 대표 사례를 먼저 검사하므로 반복 실행해도 대표 사례가 바뀌지 않음
+ * - 바뀐 행만 배치 UPDATE, 변경 사례는 ExampleCaseChangedEvent로 발행해 인메모리 인덱스/검색 캐시에 반영
+ * - 통합된 사례는 pgvector 부분 인덱스와 검색 결과에서 제외 → top-k 다양성 확보, 인덱스 크기 감소
+ * 메모리: 대표 사례 임베딩 + 변경된 행 (통합된 사례의 임베딩은 보관하지 않음)
+ */
+@Slf4j
+@Service
+public class ExampleCaseConsolidationService {
+
+    private static final int DIMENSION = 768;
+    private static final int UPDATE_BATCH_SIZE = 1000;
+    private static final int REPORT_CLUSTERS = 20;
+
+    private final ExampleCaseVectorLoader vectorLoader;
+    private final ExampleCaseRepository exampleCaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor backgroundJobExecutor;
+
+    private final AtomicReference<ConsolidationReportResponse> lastReport = new AtomicReference<>();
+
+    @Value("${example-case.consolidation.threshold:0.97}")
+    private double defaultThreshold;
+
+    @Value("${example-case.consolidation.hnsw.m:16}")
+    private int m;
+
+    @Value("${example-case.consolidation.hnsw.ef-construction:100}")
+    private int efConstruction;
+
+    @Value("${example-case.consolidation.hnsw.ef-search:64}")
+    private int efSearch;
+
+    public ExampleCaseConsolidationService(ExampleCaseVectorLoader vectorLoader,
+                                          ExampleCaseRepository exampleCaseRepository,
+                                          ApplicationEventPublisher eventPublisher,
+                                          PlatformTransactionManager transactionManager,
+                                          ThreadPoolTaskExecutor backgroundJobExecutor) {
+        this.vectorLoader = vectorLoader;
+        this.exampleCaseRepository = exampleCaseRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backgroundJobExecutor = backgroundJobExecutor;
+    }
+
+    /**
+     * 백그라운드 통합 시작
+     * @param threshold null이면 설정값(example-case.consolidation.threshold)
+     * @param dryRun true면 결과만 계산하고 DB에 반영하지 않음
+     */
+    public ConsolidationReportResponse start(Double threshold, boolean dryRun) {
+        double similarity = threshold == null ? defaultThreshold : threshold;
+        if (!(similarity > 0 && similarity <= 1)) {
+            throw new GeneralException(ErrorStatus.ADMIN_CONSOLIDATION_INVALID_THRESHOLD);
+        }
+
+        ConsolidationReportResponse current = lastReport.get();
+        if (current != null && "RUNNING".equals(current.status())) {
+            throw new GeneralException(ErrorStatus.ADMIN_CONSOLIDATION_RUNNING);
+        }
+        ConsolidationReportResponse running = new ConsolidationReportResponse("RUNNING", dryRun, similarity,
+                null, null, null, null, null, List.of(), LocalDateTime.now(), null, null);
+        if (!lastReport.compareAndSet(current, running)) {
+            throw new GeneralException(ErrorStatus.ADMIN_CONSOLIDATION_RUNNING);
+        }
+
+        backgroundJobExecutor.execute(() -> run(running));
+        return running;
+    }
+
+    public ConsolidationReportResponse getLastReport() {
+        ConsolidationReportResponse report = lastReport.get();
+        if (report == null) {
+            throw new GeneralException(ErrorStatus.ADMIN_CONSOLIDATION_NOT_FOUND);
+        }
+        return report;
+    }
+
+    private void run(ConsolidationReportResponse running) {
+        long start = System.currentTimeMillis();
+        try {
+            Clustering clustering = new Clustering(running.threshold());
+            int scanned = vectorLoader.forEachIncludingDuplicates(clustering::accept);
+
+            if (!running.dryRun()) {
+                apply(clustering);
+            }
+
+            lastReport.set(new ConsolidationReportResponse("COMPLETED", running.dryRun(), running.threshold(),
+                    (long) scanned, (long) clustering.representatives, (long) scanned - clustering.representatives,
+                    clustering.newlyMerged, (long) clustering.restored.size(), clustering.largestClusters(),
+                    running.startedAt(), LocalDateTime.now(), null));
+            log.info("사례 중복 통합 완료 - 검사: {}건, 대표: {}건, 새로 통합: {}건, 통합 해제: {}건, dryRun: {}, {}ms",
+                    scanned, clustering.representatives, clustering.newlyMerged, clustering.restored.size(),
+                    running.dryRun(), System.currentTimeMillis() - start);
+        } catch (Exception | OutOfMemoryError e) {
+            lastReport.set(new ConsolidationReportResponse("FAILED", running.dryRun(), running.threshold(),
+                    null, null, null, null, null, List.of(), running.startedAt(), LocalDateTime.now(),
+                    "중복 통합 중 오류가 발생했습니다."));
+            log.error("사례 중복 통합 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 바뀐 행만 UPDATE_BATCH_SIZE개씩 커밋, 커밋 후 변경 이벤트 발행
+    private void apply(Clustering clustering) {
+        List<Map.Entry<UUID, UUID>> changes = new ArrayList<>(clustering.changes.entrySet());
+        for (int from = 0; from < changes.size(); from += UPDATE_BATCH_SIZE) {
+            Map<UUID, UUID> batch = new LinkedHashMap<>();
+            changes.subList(from, Math.min(from + UPDATE_BATCH_SIZE, changes.size()))
+                    .forEach(entry -> batch.put(entry.getKey(), entry.getValue()));
+            transactionTemplate.executeWithoutResult(status -> exampleCaseRepository.updateDuplicateOf(batch));
+
+            batch.forEach((id, duplicateOf) -> {
+                if (duplicateOf != null) {
+                    eventPublisher.publishEvent(new ExampleCaseChangedEvent(id, clustering.categoryOf(id), null));
+                } else {
+                    ExampleCaseVectorLoader.CaseVector restored = clustering.restored.get(id);
+                    eventPublisher.publishEvent(
+                            new ExampleCaseChangedEvent(id, restored.category(), restored.embedding()));
+                }
+            });
+        }
+    }
+
+    /**
+     * category별 대표 사례 인덱스로 사례를 하나씩 배정
+     */
+    private final class Clustering {
+
+        private final double threshold;
+        private final Map<String, HnswIndex> representativesByCategory = new HashMap<>();
+        private final Map<UUID, Integer> clusterSizes = new HashMap<>();
+        private final Map<UUID, String> clusterCategories = new HashMap<>();
+
+        // 바뀐 행 (id → 새 duplicate_of, 대표 사례로 바뀌면 null)
+        private final Map<UUID, UUID> changes = new LinkedHashMap<>();
+        // 통합 대상이 바뀐 사례의 category (삭제 이벤트용)
+        private final Map<UUID, String> mergedCategories = new HashMap<>();
+        // 통합이 해제된 사례 (추가 이벤트용)
+        private final Map<UUID, ExampleCaseVectorLoader.CaseVector> restored = new HashMap<>();
+
+        private int representatives;
+        private long newlyMerged;
+
+        private Clustering(double threshold) {
+            this.threshold = threshold;
+        }
+
+        private void accept(ExampleCaseVectorLoader.CaseVector vector) {
+            String key = Objects.requireNonNullElse(vector.category(), "");
+            HnswIndex index = representativesByCategory.computeIfAbsent(key,
+                    k -> new HnswIndex(DIMENSION, m, efConstruction));
+
+            List<SimilarCase> nearest = index.search(vector.embedding(), 1, efSearch);
+            UUID representative = !nearest.isEmpty() && 1.0 - nearest.get(0).distance() >= threshold
+                    ? nearest.get(0).exampleCaseId()
+                    : null;
+
+            if (representative == null) {
+                index.add(vector.id(), vector.embedding());
+                representatives++;
+                clusterCategories.put(vector.id(), vector.category());
+                if (vector.duplicateOf() != null) {
+                    changes.put(vector.id(), null);
+                    restored.put(vector.id(), vector);
+                }
+                return;
+            }
+
+            clusterSizes.merge(representative, 1, Integer::sum);
+            if (!representative.equals(vector.duplicateOf())) {
+                changes.put(vector.id(), representative);
+                mergedCategories.put(vector.id(), vector.category());
+                if (vector.duplicateOf() == null) {
+                    newlyMerged++;
+                }
+            }
+        }
+
+        private String categoryOf(UUID id) {
+            return mergedCategories.get(id);
+        }
+
+        private List<ConsolidationReportResponse.Cluster> largestClusters() {
+            return clusterSizes.entrySet().stream()
+                    .sorted(Map.Entry.<UUID, Integer>comparingByValue(Comparator.reverseOrder()))
+                    .limit(REPORT_CLUSTERS)
+                    .map(entry -> new ConsolidationReportResponse.Cluster(
+                            entry.getKey(), clusterCategories.get(entry.getKey()), entry.getValue()))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.redflag.redflag.admin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redflag.redflag.admin.domain.IngestionFormat;
+import com.redflag.redflag.admin.domain.IngestionJob;
+import com.redflag.redflag.admin.domain.IngestionStatus;
+import com.redflag.redflag.admin.dto.IngestionJobResponse;
+import com.redflag.redflag.admin.repository.IngestionJobRepository;
+import com.redflag.redflag.analysis.repository.ExampleCaseRepository;
+import com.redflag.redflag.analysis.repository.ExampleCaseRow;
+import com.redflag.redflag.analysis.search.ExampleCaseChangedEvent;
+import com.redflag.redflag.analysis.service.MlService;
+import com.redflag.redflag.global.exception.GeneralException;
+import com.redflag.redflag.global.exception.code.status.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ExampleCase 일괄 적재 (NDJSON/CSV)
+ * - 요청 본문을 spool 파일로 저장한 뒤 백그라운드 스레드에서 한 레코드씩 읽어 처리 (메모리 사용량 일정)
+ * - batch-size개씩 ML 서버에 임베딩을 요청하고, 최대 embed-concurrency개 배치의 임베딩 요청을 동시에 진행
+ * - 배치 INSERT와 진행 위치(processed_records) 갱신을 한 트랜잭션으로 커밋 → 실패 후 재개해도 중복/누락 없음
+ * - 커밋한 사례는 ExampleCaseChangedEvent로 발행해 인메모리 검색 인덱스/검색 캐시에 반영
+ * 동시에 하나의 작업만 실행
+ */
+@Slf4j
+@Service
+public class ExampleCaseIngestionService {
+
+    private final IngestionJobRepository ingestionJobRepository;
+    private final ExampleCaseRepository exampleCaseRepository;
+    private final MlService mlService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor backgroundJobExecutor;
+    private final ThreadPoolTaskExecutor ingestEmbedExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${example-case.ingest.spool-dir:${java.io.tmpdir}/redflag-ingest}")
+    private String spoolDir;
+
+    @Value("${example-case.ingest.batch-size:64}")
+    private int batchSize;
+
+    @Value("${example-case.ingest.embed-concurrency:2}")
+    private int embedConcurrency;
+
+    public ExampleCaseIngestionService(IngestionJobRepository ingestionJobRepository,
+                                       ExampleCaseRepository exampleCaseRepository,
+                                       MlService mlService,
+                                       ApplicationEventPublisher eventPublisher,
+                                       ObjectMapper objectMapper,
+                                       PlatformTransactionManager transactionManager,
+                                       ThreadPoolTaskExecutor backgroundJobExecutor,
+                                       ThreadPoolTaskExecutor ingestEmbedExecutor) {
+        this.ingestionJobRepository = ingestionJobRepository;
+        this.exampleCaseRepository = exampleCaseRepository;
+        this.mlService = mlService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backgroundJobExecutor = backgroundJobExecutor;
+        this.ingestEmbedExecutor = ingestEmbedExecutor;
+    }
+
+    // 요청 본문을 spool 파일로 저장하고 적재 시작
+    public IngestionJobResponse start(InputStream body, String contentType, String fileName) {
+        IngestionFormat format = IngestionFormat.fromContentType(contentType)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ADMIN_INGESTION_UNSUPPORTED_FORMAT));
+        if (running.get()) {
+            throw new GeneralException(ErrorStatus.ADMIN_INGESTION_RUNNING);
+        }
+
+        UUID jobId = UUID.randomUUID();
+        Path spooled = spoolPath(jobId, format);
+        try {
+            Files.createDirectories(spooled.getParent());
+            Files.copy(body, spooled, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("적재 파일 spool 실패 - jobId: {}, {}", jobId, e.getMessage());
+            deleteQuietly(spooled);
+            throw new GeneralException(ErrorStatus.ADMIN_INGESTION_SPOOL_ERROR);
+        }
+
+        IngestionJob job = ingestionJobRepository.save(IngestionJob.builder()
+                .id(jobId)
+                .fileName(fileName)
+                .format(format)
+                .status(IngestionStatus.PENDING)
+                .updatedAt(LocalDateTime.now())
+                .build());
+        try {
+            launch(job);
+        } catch (GeneralException e) {
+            // 그 사이 다른 작업이 시작된 경우 - 파일은 남겨 두고 나중에 재개
+            ingestionJobRepository.updateStatus(jobId, IngestionStatus.FAILED, "다른 적재 작업이 실행 중입니다.",
+                    LocalDateTime.now());
+            throw e;
+        }
+        return getJob(jobId);
+    }
+
+    // 실패한 작업을 마지막으로 커밋한 위치부터 재개
+    public IngestionJobResponse resume(UUID jobId) {
+        IngestionJob job = findJob(jobId);
+        if (job.getStatus() != IngestionStatus.FAILED || !Files.exists(spoolPath(jobId, job.getFormat()))) {
+            throw new GeneralException(ErrorStatus.ADMIN_INGESTION_NOT_RESUMABLE);
+        }
+        launch(job);
+        return getJob(jobId);
+    }
+
+    public IngestionJobResponse getJob(UUID jobId) {
+        return IngestionJobResponse.from(findJob(jobId));
+    }
+
+    // 서버 재시작으로 중단된 작업은 spool 파일이 남아 있으면 이어서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterruptedJobs() {
+        List<IngestionJob> interrupted = new ArrayList<>(ingestionJobRepository.findByStatus(IngestionStatus.RUNNING));
+        interrupted.addAll(ingestionJobRepository.findByStatus(IngestionStatus.PENDING));
+        for (IngestionJob job : interrupted) {
+            if (!Files.exists(spoolPath(job.getId(), job.getFormat()))) {
+                ingestionJobRepository.updateStatus(job.getId(), IngestionStatus.FAILED,
+                        "서버 재시작으로 작업이 중단되었고 적재 파일이 없습니다.", LocalDateTime.now());
+            } else if (!running.get()) {
+                log.info("중단된 사례 적재 작업 재개 - jobId: {}, {}건부터", job.getId(), job.getProcessedRecords());
+                launch(job);
+            } else {
+                // 한 번에 하나만 실행 - 나머지는 재개 API로 이어서 실행
+                ingestionJobRepository.updateStatus(job.getId(), IngestionStatus.FAILED,
+                        "서버 재시작으로 작업이 중단되었습니다. 재개가 필요합니다.", LocalDateTime.now());
+            }
+        }
+    }
+
+    private void launch(IngestionJob job) {
+        if (!running.compareAndSet(false, true)) {
+            throw new GeneralException(ErrorStatus.ADMIN_INGESTION_RUNNING);
+        }
+        ingestionJobRepository.updateStatus(job.getId(), IngestionStatus.RUNNING, null, null);
+        backgroundJobExecutor.execute(() -> run(job));
+    }
+
+    private void run(IngestionJob job) {
+        UUID jobId = job.getId();
+        Path spooled = spoolPath(jobId, job.getFormat());
+        Progress progress = new Progress(job.getProcessedRecords(), job.getInsertedCount(), job.getSkippedCount());
+        long start = System.currentTimeMillis();
+        long startInserted = progress.inserted;
+        // 임베딩 요청 중인 배치 (파일 순서대로 커밋)
+        Deque<Future<Batch>> inFlight = new ArrayDeque<>();
+
+        try (CaseRecordReader reader = CaseRecordReader.open(spooled, job.getFormat(), objectMapper)) {
+            reader.skip(progress.processed);
+
+            Batch batch;
+            while ((batch = readBatch(reader)) != null) {
+                Batch toEmbed = batch;
+                inFlight.add(ingestEmbedExecutor.submit(() -> embed(toEmbed)));
+                if (inFlight.size() >= Math.max(embedConcurrency, 1)) {
+                    commit(jobId, inFlight.poll().get(), progress);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                commit(jobId, inFlight.poll().get(), progress);
+            }
+
+            ingestionJobRepository.updateStatus(jobId, IngestionStatus.COMPLETED, null, LocalDateTime.now());
+            deleteQuietly(spooled);
+            log.info("사례 적재 완료 - jobId: {}, 추가: {}건, 건너뜀: {}건, {}ms", jobId,
+                    progress.inserted - startInserted, progress.skipped, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            // 예외 메시지(SQL, 내부 URL 등)는 로그에만 남기고 API로 노출되는 실패 사유는 고정 문구
+            log.error("사례 적재 실패 - jobId: {}, {}건까지 커밋, {}", jobId, progress.processed, cause.getMessage(), cause);
+            ingestionJobRepository.updateStatus(jobId, IngestionStatus.FAILED,
+                    "적재 중 오류가 발생했습니다. 재개가 필요합니다.", LocalDateTime.now());
+        } finally {
+            // 아직 진행 중인 임베딩 요청 취소 (실패 시)
+            inFlight.forEach(future -> future.cancel(true));
+            running.set(false);
+        }
+    }
+
+    // 레코드 batchSize개 (유효하지 않은 레코드는 건너뛴 수로만 집계), 파일 끝이면 null
+    private Batch readBatch(CaseRecordReader reader) throws IOException {
+        List<CaseRecordReader.CaseRecord> records = new ArrayList<>(batchSize);
+        int consumed = 0;
+        CaseRecordReader.CaseRecord record;
+        while (consumed < batchSize && (record = reader.next()) != null) {
+            consumed++;
+            if (record.isValid()) {
+                records.add(record);
+            }
+        }
+        return consumed == 0 ? null : new Batch(consumed, records, null);
+    }
+
+    private Batch embed(Batch batch) {
+        if (batch.records().isEmpty()) {
+            return batch;
+        }
+        List<float[]> embeddings = mlService.embed(batch.records().stream()
+                .map(CaseRecordReader.CaseRecord::caseContent)
+                .toList());
+        return new Batch(batch.consumed(), batch.records(), embeddings);
+    }
+
+    // 배치 INSERT + 진행 위치 갱신을 한 트랜잭션으로 커밋한 뒤 변경 이벤트 발행
+    private void commit(UUID jobId, Batch batch, Progress progress) {
+        List<ExampleCaseRow> rows = new ArrayList<>(batch.records().size());
+        for (int i = 0; i < batch.records().size(); i++) {
+            CaseRecordReader.CaseRecord record = batch.records().get(i);
+            rows.add(new ExampleCaseRow(UUID.randomUUID(), record.caseContent(), record.category(),
+                    batch.embeddings().get(i)));
+        }
+
+        long processed = progress.processed + batch.consumed();
+        long inserted = progress.inserted + rows.size();
+        long skipped = progress.skipped + batch.consumed() - rows.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            exampleCaseRepository.insertAll(rows);
+            ingestionJobRepository.updateProgress(jobId, processed, inserted, skipped);
+        });
+        progress.processed = processed;
+        progress.inserted = inserted;
+        progress.skipped = skipped;
+
+        rows.forEach(row -> eventPublisher.publishEvent(
+                new ExampleCaseChangedEvent(row.id(), row.category(), row.embedding())));
+    }
+
+    private IngestionJob findJob(UUID jobId) {
+        return ingestionJobRepository.findById(jobId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ADMIN_INGESTION_NOT_FOUND));
+    }
+
+    private Path spoolPath(UUID jobId, IngestionFormat format) {
+        return Paths.get(spoolDir, jobId + format.extension());
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("spool 파일 삭제 실패: {}", path);
+        }
+    }
+
+    // 파일에서 읽은 레코드 묶음 (embeddings는 records와 같은 순서, 임베딩 전이면 null)
+    private record Batch(int consumed, List<CaseRecordReader.CaseRecord> records, List<float[]> embeddings) {}
+
+    private static final class Progress {
+        private long processed;
+        private long inserted;
+        private long skipped;
+
+        private Progress(long processed, long inserted, long skipped) {
+            this.processed = processed;
+            this.inserted = inserted;
+            this.skipped = skipped;
+        }
+    }
+}
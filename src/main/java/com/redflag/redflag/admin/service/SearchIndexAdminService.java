@@ -0,0 +1,69 @@
+package com.redflag.redflag.admin.service;
+
+import com.redflag.redflag.admin.dto.SearchIndexStatusResponse;
+import com.redflag.redflag.analysis.search.InMemorySearchEngine;
+import com.redflag.redflag.analysis.search.PgvectorIndexManager;
+import com.redflag.redflag.analysis.search.SimilarCaseSearchService;
+import com.redflag.redflag.global.exception.GeneralException;
+import com.redflag.redflag.global.exception.code.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexAdminService {
+
+    private final PgvectorIndexManager pgvectorIndexManager;
+    private final SimilarCaseSearchService similarCaseSearchService;
+
+    public SearchIndexStatusResponse getStatus() {
+        PgvectorIndexManager.BuildStatus build = pgvectorIndexManager.buildStatus();
+
+        return new SearchIndexStatusResponse(
+                pgvectorIndexManager.caseCount(),
+                similarCaseSearchService.configuredEngine(),
+                similarCaseSearchService.activeEngine(),
+                new SearchIndexStatusResponse.PgvectorIndex(
+                        build.state().name(),
+                        build.definition(),
+                        pgvectorIndexManager.indexSizeBytes(),
+                        build.startedAt(),
+                        build.finishedAt(),
+                        build.error(),
+                        pgvectorIndexManager.buildProgress(),
+                        pgvectorIndexManager.efSearch(),
+                        pgvectorIndexManager.probes(),
+                        categoryIndexes()),
+                engines());
+    }
+
+    // 등록된 검색 엔진별 상태 (인메모리 엔진만 인덱스 사례 수 포함)
+    private List<SearchIndexStatusResponse.EngineStatus> engines() {
+        return similarCaseSearchService.engines().stream()
+                .map(engine -> new SearchIndexStatusResponse.EngineStatus(
+                        engine.name(),
+                        engine.isAvailable(),
+                        engine instanceof InMemorySearchEngine<?> inMemory ? inMemory.size() : null))
+                .toList();
+    }
+
+    private List<SearchIndexStatusResponse.CategoryIndex> categoryIndexes() {
+        return pgvectorIndexManager.categoryIndexDefinitions().entrySet().stream()
+                .map(e -> new SearchIndexStatusResponse.CategoryIndex(
+                        e.getKey(), e.getValue(), pgvectorIndexManager.indexSizeBytes(e.getKey())))
+                .toList();
+    }
+
+    // pgvector 인덱스를 현재 설정값으로 재구축 (백그라운드)
+    public SearchIndexStatusResponse rebuildPgvectorIndex() {
+        if (!pgvectorIndexManager.rebuildAsync()) {
+            throw new GeneralException(ErrorStatus.ADMIN_INDEX_REBUILD_REJECTED);
+        }
+        log.info("pgvector 인덱스 재구축 요청");
+        return getStatus();
+    }
+}
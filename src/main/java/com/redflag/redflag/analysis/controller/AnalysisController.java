@@ -1,6 +1,8 @@
 package com.redflag.redflag.analysis.controller;
 
 import com.redflag.redflag.analysis.dto.AnalysisDetailResponse;
+import com.redflag.redflag.analysis.dto.AnalysisHistoryListResponse;
+import com.redflag.redflag.analysis.dto.AnalysisStatusResponse;
 import com.redflag.redflag.analysis.dto.AnalysisUploadResponse;
 import com.redflag.redflag.analysis.service.AnalysisService;
 import com.redflag.redflag.global.response.ApiResponse;
@@ -25,7 +27,8 @@ public class AnalysisController {
     @Operation(
         summary = "이미지 업로드 및 분석 요청",
         description = "사용자가 채팅 이미지를 업로드하고 분석을 시작합니다. " +
-                     "S3 업로드, ML 분석, DB 저장을 모두 처리합니다."
+                     "분석 ID를 즉시 반환하며, S3 업로드, ML 분석, DB 저장은 백그라운드에서 처리됩니다. " +
+                     "진행 상황은 `/api/v1/analysis/{analysisId}/status`로 확인합니다."
     )
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ApiResponse<AnalysisUploadResponse> uploadAndAnalyze(
@@ -44,6 +47,26 @@ public class AnalysisController {
         return ApiResponse.onSuccess(response);
     }
     
+    @Operation(
+        summary = "분석 이력 목록 조회",
+        description = "사용자의 분석 이력을 최신순으로 조회합니다. " +
+                     "다음 페이지는 응답의 `nextCursor`를 `cursor`로 전달해 조회합니다."
+    )
+    @GetMapping
+    public ApiResponse<AnalysisHistoryListResponse> getAnalysisHistories(
+            @Parameter(hidden = true)
+            @CookieValue(name = "user_id") String userId,
+            
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            
+            @Parameter(description = "페이지 크기 (최대 50)")
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        AnalysisHistoryListResponse response = analysisService.getAnalysisHistories(userId, cursor, size);
+        return ApiResponse.onSuccess(response);
+    }
+    
     @Operation(
         summary = "분석 결과 상세 조회",
         description = "특정 분석의 전체 정보를 조회합니다. (유사 사례 포함)"
@@ -61,4 +84,21 @@ public class AnalysisController {
         AnalysisDetailResponse response = analysisService.getAnalysisDetail(userId, analysisId);
         return ApiResponse.onSuccess(response);
     }
+    
+    @Operation(
+        summary = "분석 진행 상태 조회",
+        description = "분석 작업의 진행 단계(PENDING, ANALYZING, MATCHING, COMPLETED, FAILED)를 조회합니다. " +
+                     "완료된 경우 분석 결과를 함께 반환합니다."
+    )
+    @GetMapping("/{analysisId}/status")
+    public ApiResponse<AnalysisStatusResponse> getAnalysisStatus(
+            @Parameter(hidden = true)
+            @CookieValue(name = "user_id") String userId,
+            
+            @Parameter(description = "분석 ID", required = true)
+            @PathVariable("analysisId") String analysisId
+    ) {
+        AnalysisStatusResponse response = analysisService.getAnalysisStatus(userId, analysisId);
+        return ApiResponse.onSuccess(response);
+    }
 }
@@ -1,11 +1,13 @@
 package com.redflag.redflag.analysis.domain;
 
+import com.redflag.redflag.global.id.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,7 +17,13 @@ import java.util.UUID;
 @Entity
 @Table(
         name = "analysis_history",
-        indexes = @Index(name = "idx_analysis_history_user_id", columnList = "user_id")
+        indexes = {
+                // 사용자별 목록 keyset 페이지네이션, 요약 컬럼 INCLUDE는 AnalysisHistoryIndexManager가 DDL로 추가
+                @Index(name = "idx_analysis_history_user_created", columnList = "user_id, created_at DESC, id DESC"),
+                @Index(name = "idx_analysis_history_image_hash", columnList = "image_hash"),
+                // 미완료 작업 조회 (재시작 복구, 주기적 정리)
+                @Index(name = "idx_analysis_history_status", columnList = "status, status_updated_at")
+        }
 )
 @Getter
 @NoArgsConstructor
@@ -24,7 +32,7 @@ import java.util.UUID;
 public class AnalysisHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -34,6 +42,10 @@ public class AnalysisHistory {
     @Column(name = "image_url", columnDefinition = "TEXT")
     private String imageUrl;
 
+    // 이미지 바이트 SHA-256 (hex)
+    @Column(name = "image_hash", length = 64)
+    private String imageHash;
+
     @Column(name = "raw_text", columnDefinition = "TEXT")
     private String rawText;
 
@@ -49,9 +61,38 @@ public class AnalysisHistory {
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    // 분석 작업 상태 (기존 데이터는 null → 완료로 간주)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private AnalysisStatus status;
+
+    @Column(name = "failure_reason", columnDefinition = "TEXT")
+    private String failureReason;
+
+    @Column(name = "status_updated_at")
+    private LocalDateTime statusUpdatedAt;
     
     // AnalysisDetail과의 관계
     @OneToMany(mappedBy = "analysisHistory", fetch = FetchType.LAZY)
     @Builder.Default
     private List<AnalysisDetail> analysisDetails = new ArrayList<>();
-}
\ No newline at end of file
+
+    // 분석 완료 시 ML 결과 반영
+    public void complete(String imageUrl, String imageHash, String rawText,
+                         Integer riskScore, String riskLevel, String description) {
+        this.imageUrl = imageUrl;
+        this.imageHash = imageHash;
+        this.rawText = rawText;
+        this.riskScore = riskScore;
+        this.riskLevel = riskLevel;
+        this.description = description;
+        this.status = AnalysisStatus.COMPLETED;
+        this.failureReason = null;
+        this.statusUpdatedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return status == null || status == AnalysisStatus.COMPLETED;
+    }
+}
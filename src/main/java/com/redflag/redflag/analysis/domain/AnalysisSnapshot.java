@@ -0,0 +1,51 @@
+package com.redflag.redflag.analysis.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * 완료된 분석 결과 스냅샷 (AnalysisDetailResponse JSON)
+ * 분석 결과는 저장 후 바뀌지 않으므로 결과 저장 트랜잭션에서 한 번 기록하고, 상세 조회는 PK 조회 한 번으로 응답
+ * 권한 검증용 user_id를 함께 저장해 AnalysisHistory/User를 읽지 않음
+ */
+@Entity
+@Table(name = "analysis_snapshot")
+@Immutable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalysisSnapshot implements Persistable<UUID> {
+
+    // AnalysisHistory와 같은 ID
+    @Id
+    @Column(name = "analysis_id")
+    private UUID analysisId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "result", columnDefinition = "jsonb", nullable = false)
+    private String result;
+
+    @Override
+    public UUID getId() {
+        return analysisId;
+    }
+
+    // 한 번만 INSERT 되므로 save() 시 존재 여부 SELECT(merge) 생략
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
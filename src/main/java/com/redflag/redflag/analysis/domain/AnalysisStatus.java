@@ -0,0 +1,14 @@
+package com.redflag.redflag.analysis.domain;
+
+// 분석 작업 진행 단계
+public enum AnalysisStatus {
+    PENDING,    // 대기열 등록
+    ANALYZING,  // S3 업로드 + ML 분석
+    MATCHING,   // 유사 사례 검색 + 키워드 하이라이트
+    COMPLETED,  // 분석 완료
+    FAILED;     // 분석 실패
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -1,6 +1,7 @@
 package com.redflag.redflag.analysis.domain;
 
 import com.pgvector.PGvector;
+import com.redflag.redflag.analysis.search.ExampleCaseChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,6 +12,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "example_case")
+@EntityListeners(ExampleCaseChangeListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,4 +31,8 @@ public class ExampleCase {
 
     @Column(name = "embedding", columnDefinition = "vector(768)")
     private PGvector embedding;
+
+    // 거의 같은 사례로 통합된 경우 대표 사례 ID (검색/인덱스 대상에서 제외)
+    @Column(name = "duplicate_of")
+    private UUID duplicateOf;
 }
\ No newline at end of file
@@ -19,8 +19,9 @@ import java.util.UUID;
 @Builder
 public class User {
 
+    // 쿠키로 발급하는 사용자 UUID를 그대로 키로 사용하므로 생성기 없이 항상 직접 지정
+    // (생성 전략이 있으면 지정한 ID로 save() 시 merge가 StaleObjectStateException으로 실패)
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @CreationTimestamp
@@ -2,12 +2,14 @@ package com.redflag.redflag.analysis.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class AnalysisDetailResponse {
     private String analysisId;
     private String imageUrl;
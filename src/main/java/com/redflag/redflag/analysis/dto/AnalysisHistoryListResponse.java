@@ -0,0 +1,15 @@
+package com.redflag.redflag.analysis.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AnalysisHistoryListResponse {
+    private List<AnalysisSummaryDto> analyses;
+    // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+}
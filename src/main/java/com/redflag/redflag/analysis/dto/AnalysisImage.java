@@ -0,0 +1,17 @@
+package com.redflag.redflag.analysis.dto;
+
+import java.nio.file.Path;
+
+/**
+ * 분석 대기열에 임시 저장(spool)된 업로드 이미지
+ * 요청 스레드가 끝나면 MultipartFile 임시 파일이 삭제되므로 백그라운드 작업은 이 파일을 사용
+ * sha256: 이미지 바이트의 SHA-256 (hex), 동일 이미지 중복 분석 방지용
+ */
+public record AnalysisImage(
+        Path path,
+        String originalFilename,
+        String contentType,
+        long size,
+        String sha256
+) {
+}
@@ -0,0 +1,21 @@
+package com.redflag.redflag.analysis.dto;
+
+import com.redflag.redflag.analysis.domain.AnalysisStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalysisStatusResponse {
+    private String analysisId;
+    private AnalysisStatus status;
+    private String failureReason;
+    private LocalDateTime statusUpdatedAt;
+    
+    // 분석 완료 시에만 포함
+    private AnalysisDetailResponse result;
+}
@@ -0,0 +1,19 @@
+package com.redflag.redflag.analysis.dto;
+
+import com.redflag.redflag.analysis.domain.AnalysisStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class AnalysisSummaryDto {
+    private String analysisId;
+    private AnalysisStatus status;
+    private Integer riskScore;
+    private String riskLevel;
+    // 목록 썸네일로 쓰는 업로드 이미지 URL (분석 완료 전에는 null)
+    private String imageUrl;
+    private LocalDateTime createdAt;
+}
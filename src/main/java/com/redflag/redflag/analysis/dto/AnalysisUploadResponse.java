@@ -1,5 +1,6 @@
 package com.redflag.redflag.analysis.dto;
 
+import com.redflag.redflag.analysis.domain.AnalysisStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,4 +16,5 @@ public class AnalysisUploadResponse {
     
     private UUID analysisId;
     private String imageUrl;
+    private AnalysisStatus status;
 }
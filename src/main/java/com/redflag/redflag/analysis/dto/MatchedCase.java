@@ -0,0 +1,18 @@
+package com.redflag.redflag.analysis.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 유사 사례 매칭 결과 (DB 저장 전 파이프라인 내부 전달용)
+ */
+public record MatchedCase(
+        UUID exampleCaseId,
+        String category,
+        String caseContent,
+        BigDecimal similarityScore,
+        int matchedRank,
+        String highlightTextUser,
+        String highlightTextCase
+) {
+}
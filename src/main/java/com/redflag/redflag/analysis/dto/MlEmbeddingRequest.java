@@ -0,0 +1,9 @@
+package com.redflag.redflag.analysis.dto;
+
+import java.util.List;
+
+/**
+ * ML 서버 일괄 임베딩 요청 (POST ml.server.embed-url)
+ */
+public record MlEmbeddingRequest(List<String> texts) {
+}
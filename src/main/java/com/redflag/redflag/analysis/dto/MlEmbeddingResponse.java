@@ -0,0 +1,18 @@
+package com.redflag.redflag.analysis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ML 서버 일괄 임베딩 응답 (요청 texts와 같은 순서)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MlEmbeddingResponse {
+
+    private List<float[]> embeddings;
+}
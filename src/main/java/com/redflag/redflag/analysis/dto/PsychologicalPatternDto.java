@@ -2,9 +2,11 @@ package com.redflag.redflag.analysis.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class PsychologicalPatternDto {
     private String patternType;
     private String detectedSentence;
@@ -2,11 +2,14 @@ package com.redflag.redflag.analysis.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 @Getter
 @Builder
+@Jacksonized
 public class SimilarCaseDto {
     private Integer matchedRank;
     private String caseId;
@@ -15,4 +18,17 @@ public class SimilarCaseDto {
     private String content;
     private String highlightUser;
     private String highlightCase;
+
+    // SpecificMatchRepository.findMatchDetailsWithoutEmbedding 결과 한 행 변환
+    public static SimilarCaseDto fromMatchRow(Object[] row) {
+        return SimilarCaseDto.builder()
+                .matchedRank((Integer) row[0])
+                .caseId(((UUID) row[1]).toString())
+                .category((String) row[2])
+                .content((String) row[3])
+                .similarityScore((BigDecimal) row[4])
+                .highlightUser((String) row[5])
+                .highlightCase((String) row[6])
+                .build();
+    }
 }
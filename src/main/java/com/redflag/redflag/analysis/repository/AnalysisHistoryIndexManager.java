@@ -0,0 +1,66 @@
+package com.redflag.redflag.analysis.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * analysis_history 사용자별 목록 인덱스 관리 (JPA @Index로는 INCLUDE를 표현할 수 없어 DDL로 직접 관리)
+ * - 키는 (user_id, created_at DESC, id DESC)만, 목록 요약 컬럼은 INCLUDE로 리프 페이지에만 저장
+ *   → 내부 페이지가 작게 유지되고 image_url(TEXT)이 B-tree 키 크기 제한에 걸리지 않음, 목록은 index-only scan
+ * - 서버 시작 시 정의가 다르면 새 인덱스 생성 → 기존 인덱스 삭제 → 이름 변경 (CONCURRENTLY, 쓰기를 막지 않음)
+ * - 새 인덱스의 선두 컬럼으로 대체된 idx_analysis_history_user_id는 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisHistoryIndexManager {
+
+    public static final String INDEX_NAME = "idx_analysis_history_user_created";
+    private static final String BUILDING_INDEX_NAME = INDEX_NAME + "_new";
+    private static final String LEGACY_INDEX_NAME = "idx_analysis_history_user_id";
+    private static final String INCLUDE_COLUMNS = "INCLUDE (risk_score, risk_level, status, image_url)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolTaskExecutor backgroundJobExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexOnStartup() {
+        backgroundJobExecutor.execute(this::ensureIndex);
+    }
+
+    private void ensureIndex() {
+        long start = System.currentTimeMillis();
+        try {
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + LEGACY_INDEX_NAME);
+
+            String existing = currentDefinition();
+            if (existing != null && existing.contains(INCLUDE_COLUMNS)) {
+                return;
+            }
+            // 이전 구축이 중단되어 남은 INVALID 인덱스 정리
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + BUILDING_INDEX_NAME);
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY " + BUILDING_INDEX_NAME
+                    + " ON analysis_history (user_id, created_at DESC, id DESC) " + INCLUDE_COLUMNS);
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + INDEX_NAME);
+            jdbcTemplate.execute("ALTER INDEX " + BUILDING_INDEX_NAME + " RENAME TO " + INDEX_NAME);
+            log.info("analysis_history 목록 인덱스 구축 완료 - {}ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("analysis_history 목록 인덱스 구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private String currentDefinition() {
+        List<String> definitions = jdbcTemplate.queryForList(
+                "SELECT indexdef FROM pg_indexes " +
+                "WHERE schemaname = current_schema() AND tablename = 'analysis_history' AND indexname = ?",
+                String.class, INDEX_NAME);
+        return definitions.isEmpty() ? null : definitions.get(0);
+    }
+}
@@ -1,8 +1,16 @@
 package com.redflag.redflag.analysis.repository;
 
 import com.redflag.redflag.analysis.domain.AnalysisHistory;
+import com.redflag.redflag.analysis.domain.AnalysisStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,16 +21,82 @@ import java.time.LocalDateTime;
 public interface AnalysisHistoryRepository extends JpaRepository<AnalysisHistory, UUID> {
 
     /**
-     * 특정 날짜 범위 내에서 riskScore가 특정 값 이상인 데이터 개수 조회
+     * 분석 작업 상태 갱신 (파이프라인 단계 전환 시 즉시 커밋)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisHistory ah " +
+           "SET ah.status = :status, ah.failureReason = :failureReason, ah.statusUpdatedAt = CURRENT_TIMESTAMP " +
+           "WHERE ah.id = :analysisId")
+    int updateStatus(
+            @Param("analysisId") UUID analysisId,
+            @Param("status") AnalysisStatus status,
+            @Param("failureReason") String failureReason
+    );
+
+    /**
+     * 동일 이미지(SHA-256)로 완료된 가장 최근 분석 조회
+     */
+    Optional<AnalysisHistory> findFirstByImageHashAndStatusOrderByCreatedAtDesc(String imageHash, AnalysisStatus status);
+
+    /**
+     * 재시작 시 복구 대상 작업 조회
+     */
+    List<AnalysisHistory> findByStatusIn(Collection<AnalysisStatus> statuses);
+
+    /**
+     * staleBefore 이후 상태 변경이 없는 작업 조회 (주기적 정리 대상)
      */
-    @Query("SELECT COUNT(ah) FROM AnalysisHistory ah " +
-           "WHERE ah.riskScore >= :minRiskScore " +
-           "AND ah.createdAt >= :startDate " +
-           "AND ah.createdAt < :endDate")
-    Long countByRiskScoreGreaterThanEqualAndCreatedAtBetween(
-            @Param("minRiskScore") Integer minRiskScore,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
+    @Query("SELECT ah FROM AnalysisHistory ah WHERE ah.status IN :statuses " +
+           "AND (ah.statusUpdatedAt IS NULL OR ah.statusUpdatedAt < :staleBefore)")
+    List<AnalysisHistory> findStale(
+            @Param("statuses") Collection<AnalysisStatus> statuses,
+            @Param("staleBefore") LocalDateTime staleBefore
     );
 
+    /**
+     * 조회 이후에도 여전히 staleBefore 이후 상태 변경이 없는 경우에만 상태 갱신
+     * (그 사이 다른 인스턴스에서 진행/완료된 작업은 덮어쓰지 않음)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AnalysisHistory ah " +
+           "SET ah.status = :status, ah.failureReason = :failureReason, ah.statusUpdatedAt = CURRENT_TIMESTAMP " +
+           "WHERE ah.id = :analysisId AND ah.status IN :statuses " +
+           "AND (ah.statusUpdatedAt IS NULL OR ah.statusUpdatedAt < :staleBefore)")
+    int updateStatusIfStale(
+            @Param("analysisId") UUID analysisId,
+            @Param("statuses") Collection<AnalysisStatus> statuses,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("status") AnalysisStatus status,
+            @Param("failureReason") String failureReason
+    );
+
+    /**
+     * 사용자별 분석 이력 첫 페이지 (최신순)
+     */
+    @Query("SELECT new com.redflag.redflag.analysis.repository.AnalysisSummaryRow(" +
+           "ah.id, ah.riskScore, ah.riskLevel, ah.status, ah.imageUrl, ah.createdAt) " +
+           "FROM AnalysisHistory ah " +
+           "WHERE ah.user.id = :userId " +
+           "ORDER BY ah.createdAt DESC, ah.id DESC")
+    List<AnalysisSummaryRow> findSummariesByUserId(@Param("userId") UUID userId, Limit limit);
+
+    /**
+     * 사용자별 분석 이력 다음 페이지 (커서 (createdAt, id) 이후, 최신순)
+     * createdAt <= :createdAt 조건을 따로 두어 인덱스 탐색이 커서 위치에서 시작하도록 함
+     */
+    @Query("SELECT new com.redflag.redflag.analysis.repository.AnalysisSummaryRow(" +
+           "ah.id, ah.riskScore, ah.riskLevel, ah.status, ah.imageUrl, ah.createdAt) " +
+           "FROM AnalysisHistory ah " +
+           "WHERE ah.user.id = :userId " +
+           "AND ah.createdAt <= :createdAt " +
+           "AND (ah.createdAt < :createdAt OR ah.id < :id) " +
+           "ORDER BY ah.createdAt DESC, ah.id DESC")
+    List<AnalysisSummaryRow> findSummariesByUserIdAfter(
+            @Param("userId") UUID userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
 }
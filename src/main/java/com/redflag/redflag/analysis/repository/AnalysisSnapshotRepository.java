@@ -0,0 +1,12 @@
+package com.redflag.redflag.analysis.repository;
+
+import com.redflag.redflag.analysis.domain.AnalysisSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface AnalysisSnapshotRepository extends JpaRepository<AnalysisSnapshot, UUID> {
+
+}
@@ -0,0 +1,13 @@
+package com.redflag.redflag.analysis.repository;
+
+import com.redflag.redflag.analysis.domain.AnalysisStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 분석 이력 목록 조회용 요약 행 (TEXT 컬럼인 raw_text, description은 읽지 않음)
+ */
+public record AnalysisSummaryRow(UUID id, Integer riskScore, String riskLevel, AnalysisStatus status,
+                                 String imageUrl, LocalDateTime createdAt) {
+}
@@ -6,23 +6,19 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface ExampleCaseRepository extends JpaRepository<ExampleCase, UUID> {
+public interface ExampleCaseRepository extends JpaRepository<ExampleCase, UUID>, ExampleCaseVectorRepository {
     
-    // pgvector를 사용한 유사도 검색 (코사인 거리값 포함)
-    // embedding column과 주어진 벡터의 코사인 거리를 계산하여 유사한 사례 검색
-    // 반환값: [id, case_content, distance]
-    @Query(value = "SELECT " +
-                   "id, " +
-                   "case_content, " +
-                   "(embedding <=> CAST(:embedding AS vector)) as distance " +
-                   "FROM example_case " +
-                   "ORDER BY distance " +
-                   "LIMIT :limit", 
-           nativeQuery = true)
-    List<Object[]> findSimilarCasesWithDistance(@Param("embedding") String embedding, 
-                                                @Param("limit") int limit);
+    // 검색 결과 ID로 사례 본문 조회 (임베딩 컬럼은 읽지 않음)
+    // 반환값: [id, case_content, category]
+    @Query("SELECT e.id, e.caseContent, e.category FROM ExampleCase e WHERE e.id IN :ids")
+    List<Object[]> findContentsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // 주어진 ID 중 해당 category에 속한 사례 ID (기본 키 조회)
+    @Query("SELECT e.id FROM ExampleCase e WHERE e.id IN :ids AND e.category = :category")
+    List<UUID> findIdsByIdInAndCategory(@Param("ids") Collection<UUID> ids, @Param("category") String category);
 }
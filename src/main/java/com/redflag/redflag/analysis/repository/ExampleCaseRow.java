@@ -0,0 +1,9 @@
+package com.redflag.redflag.analysis.repository;
+
+import java.util.UUID;
+
+/**
+ * 일괄 적재용 ExampleCase 행 (JPA 엔티티를 거치지 않고 JDBC 배치로 저장)
+ */
+public record ExampleCaseRow(UUID id, String caseContent, String category, float[] embedding) {
+}
@@ -0,0 +1,34 @@
+package com.redflag.redflag.analysis.repository;
+
+import com.redflag.redflag.analysis.search.SimilarCase;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * pgvector 유사도 검색 (JdbcTemplate 기반 커스텀 리포지토리)
+ * 임베딩을 문자열이 아닌 PGvector 바이너리 파라미터로 전달
+ * 사례 일괄 적재용 배치 INSERT 포함
+ */
+public interface ExampleCaseVectorRepository {
+
+    /**
+     * 코사인 거리 오름차순 상위 limit개 (ANN 인덱스 사용, 다른 사례로 통합된 사례 제외)
+     * @param category null이면 전체, 지정하면 해당 category만 (category별 부분 인덱스 사용)
+     */
+    List<SimilarCase> findNearest(float[] embedding, int limit, String category);
+
+    // 인덱스를 사용하지 않는 전수 검색 (재현율 측정 기준값)
+    List<SimilarCase> findNearestExact(float[] embedding, int limit, String category);
+
+    // 주어진 후보 중 원본 임베딩 기준 상위 limit개 (양자화 검색 후보 재정렬)
+    List<SimilarCase> findNearestAmong(float[] embedding, Collection<UUID> candidateIds, int limit);
+
+    // 근접 중복 통합 결과 반영 (id → 대표 사례 ID, null이면 통합 해제)
+    void updateDuplicateOf(Map<UUID, UUID> duplicateOfById);
+
+    // JDBC 배치 INSERT (호출 측 트랜잭션에 참여, JPA 엔티티 리스너는 호출되지 않음)
+    void insertAll(List<ExampleCaseRow> rows);
+}
@@ -0,0 +1,135 @@
+package com.redflag.redflag.analysis.repository;
+
+import com.pgvector.PGvector;
+import com.redflag.redflag.analysis.search.PgvectorIndexManager;
+import com.redflag.redflag.analysis.search.SimilarCase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class ExampleCaseVectorRepositoryImpl implements ExampleCaseVectorRepository {
+
+    private static final String NEAREST_SQL =
+            "SELECT id, embedding <=> ? AS distance FROM example_case " +
+            "WHERE duplicate_of IS NULL%s ORDER BY distance LIMIT ?";
+
+    private static final String NEAREST_AMONG_SQL =
+            "SELECT id, embedding <=> ? AS distance FROM example_case " +
+            "WHERE id = ANY(?) AND duplicate_of IS NULL ORDER BY distance LIMIT ?";
+
+    private static final String UPDATE_DUPLICATE_OF_SQL = "UPDATE example_case SET duplicate_of = ? WHERE id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO example_case (id, case_content, category, embedding) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PgvectorIndexManager indexManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExampleCaseVectorRepositoryImpl(JdbcTemplate jdbcTemplate, PgvectorIndexManager indexManager,
+                                           PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.indexManager = indexManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public List<SimilarCase> findNearest(float[] embedding, int limit, String category) {
+        // SET LOCAL과 같은 효과 (set_config의 is_local = true), 트랜잭션이 끝나면 원래 값으로 복원
+        return readOnlyTransaction.execute(status -> {
+            jdbcTemplate.queryForList("SELECT set_config('hnsw.ef_search', ?, true), set_config('ivfflat.probes', ?, true)",
+                    String.valueOf(Math.max(indexManager.efSearch(), limit)), String.valueOf(indexManager.probes()));
+            return query(nearestSql(category), embedding, null, limit);
+        });
+    }
+
+    @Override
+    public List<SimilarCase> findNearestExact(float[] embedding, int limit, String category) {
+        return readOnlyTransaction.execute(status -> {
+            jdbcTemplate.queryForList("SELECT set_config('enable_indexscan', 'off', true)");
+            return query(nearestSql(category), embedding, null, limit);
+        });
+    }
+
+    // 조건은 부분 인덱스 조건(duplicate_of IS NULL [AND category = ...])과 같은 형태
+    // category는 리터럴로 포함 (바인드 파라미터면 generic plan에서 부분 인덱스를 사용하지 못함)
+    private String nearestSql(String category) {
+        String where = category == null ? "" : " AND category = " + PgvectorIndexManager.quoteLiteral(category);
+        return NEAREST_SQL.formatted(where);
+    }
+
+    @Override
+    public List<SimilarCase> findNearestAmong(float[] embedding, Collection<UUID> candidateIds, int limit) {
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        return query(NEAREST_AMONG_SQL, embedding, candidateIds, limit);
+    }
+
+    @Override
+    public void insertAll(List<ExampleCaseRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute(connection -> {
+            PgvectorTypes.register(connection);
+            return connection.prepareStatement(INSERT_SQL);
+        }, (PreparedStatement statement) -> {
+            for (ExampleCaseRow row : rows) {
+                statement.setObject(1, row.id());
+                statement.setString(2, row.caseContent());
+                statement.setString(3, row.category());
+                statement.setObject(4, new PGvector(row.embedding()));
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        });
+    }
+
+    @Override
+    public void updateDuplicateOf(Map<UUID, UUID> duplicateOfById) {
+        if (duplicateOfById.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<UUID, UUID>> entries = new ArrayList<>(duplicateOfById.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_DUPLICATE_OF_SQL, entries, entries.size(), (statement, entry) -> {
+            statement.setObject(1, entry.getValue());
+            statement.setObject(2, entry.getKey());
+        });
+    }
+
+    private List<SimilarCase> query(String sql, float[] embedding, Collection<UUID> candidateIds, int limit) {
+        return jdbcTemplate.execute(connection -> {
+            PgvectorTypes.register(connection);
+            return connection.prepareStatement(sql);
+        }, (PreparedStatement statement) -> {
+            int index = 1;
+            statement.setObject(index++, new PGvector(embedding));
+            if (candidateIds != null) {
+                statement.setArray(index++, statement.getConnection().createArrayOf("uuid", candidateIds.toArray()));
+            }
+            statement.setInt(index, limit);
+            return readResults(statement, limit);
+        });
+    }
+
+    private List<SimilarCase> readResults(PreparedStatement statement, int limit) throws SQLException {
+        List<SimilarCase> results = new ArrayList<>(limit);
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                results.add(new SimilarCase(rs.getObject(1, UUID.class), rs.getDouble(2)));
+            }
+        }
+        return results;
+    }
+}
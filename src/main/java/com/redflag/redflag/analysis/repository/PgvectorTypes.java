@@ -0,0 +1,22 @@
+package com.redflag.redflag.analysis.repository;
+
+import com.pgvector.PGvector;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * pgvector 타입 등록
+ * 커넥션에 vector 타입을 PGvector(PGBinaryObject)로 등록하면 파라미터/결과를 바이너리 형식으로 주고받음
+ * (vector OID 조회는 물리 커넥션당 한 번만 수행되고 이후에는 드라이버 캐시 사용)
+ */
+public final class PgvectorTypes {
+
+    private PgvectorTypes() {
+    }
+
+    public static void register(Connection connection) throws SQLException {
+        // 커넥션 풀 프록시인 경우 드라이버 커넥션으로 unwrap해서 등록됨
+        PGvector.addVectorType(connection);
+    }
+}
@@ -1,5 +1,6 @@
 package com.redflag.redflag.analysis.repository;
 
+import com.redflag.redflag.analysis.domain.AnalysisHistory;
 import com.redflag.redflag.analysis.domain.SpecificMatch;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -32,4 +33,7 @@ public interface SpecificMatchRepository extends JpaRepository<SpecificMatch, UU
            "WHERE sm.analysisHistory.id = :analysisId " +
            "ORDER BY sm.matchedRank ASC")
     List<Object[]> findMatchDetailsWithoutEmbedding(@Param("analysisId") UUID analysisId);
+
+    // AnalysisHistory로 SpecificMatch 조회
+    List<SpecificMatch> findByAnalysisHistory(AnalysisHistory analysisHistory);
 }
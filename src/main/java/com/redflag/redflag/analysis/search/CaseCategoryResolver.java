@@ -0,0 +1,82 @@
+package com.redflag.redflag.analysis.search;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ML 패턴 유형 → ExampleCase category 변환
+ * similar-case.category.mapping("패턴유형=category,...")에 없으면 패턴 유형과 같은 이름의 category 사용
+ * 존재하지 않는 category로는 검색 조건을 만들지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaseCategoryResolver {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // none | filter | boost (기본값 none: 검색 순위를 바꾸는 동작은 설정으로 명시해야 적용)
+    @Value("${similar-case.category.mode:none}")
+    private String mode;
+
+    @Value("${similar-case.category.mapping:}")
+    private String mappingProperty;
+
+    private final Map<String, String> mapping = new HashMap<>();
+    private final Set<String> categories = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void parseMapping() {
+        for (String entry : mappingProperty.split(",")) {
+            String[] pair = entry.split("=", 2);
+            if (pair.length == 2 && !pair[0].isBlank() && !pair[1].isBlank()) {
+                mapping.put(pair[0].trim(), pair[1].trim());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCategories() {
+        try {
+            categories.addAll(jdbcTemplate.queryForList(
+                    "SELECT DISTINCT category FROM example_case WHERE category IS NOT NULL", String.class));
+            log.info("ExampleCase category {}개 로드", categories.size());
+        } catch (Exception e) {
+            log.warn("ExampleCase category 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExampleCaseChanged(ExampleCaseChangedEvent event) {
+        if (!event.isRemoved() && event.category() != null) {
+            categories.add(event.category());
+        }
+    }
+
+    /**
+     * @param patternType 대표 심리 조작 패턴 유형 (점수가 가장 높은 패턴)
+     * @return 검색 조건, 사용하지 않거나 대응하는 category가 없으면 null
+     */
+    public CategoryScope resolve(String patternType) {
+        if (patternType == null || "none".equalsIgnoreCase(mode)) {
+            return null;
+        }
+        String category = mapping.getOrDefault(patternType, patternType);
+        if (!categories.contains(category)) {
+            return null;
+        }
+        return "filter".equalsIgnoreCase(mode) ? CategoryScope.filter(category) : CategoryScope.boost(category);
+    }
+}
@@ -0,0 +1,20 @@
+package com.redflag.redflag.analysis.search;
+
+/**
+ * 유사 사례 검색의 category 조건
+ * - FILTER: 해당 category 사례만 (부족하면 전체 검색 결과로 채움)
+ * - BOOST: 전체 사례 중 검색하되 해당 category 사례의 거리를 boost만큼 줄여 상위 k개 선정에서 우선
+ *   (반환 순서와 거리는 실제 유사도 기준)
+ */
+public record CategoryScope(String category, Mode mode) {
+
+    public enum Mode { FILTER, BOOST }
+
+    public static CategoryScope filter(String category) {
+        return new CategoryScope(category, Mode.FILTER);
+    }
+
+    public static CategoryScope boost(String category) {
+        return new CategoryScope(category, Mode.BOOST);
+    }
+}
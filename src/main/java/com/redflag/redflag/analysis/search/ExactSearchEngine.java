@@ -0,0 +1,80 @@
+package com.redflag.redflag.analysis.search;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * SIMD 전수 검색 엔진 (ExactVectorStore)
+ * 근사 검색이 아니므로 결과가 pgvector 전수 검색(ORDER BY embedding <=> ?)과 같음
+ * 실행 시 --add-modules jdk.incubator.vector 필요 (없으면 사용 불가로 처리하고 pgvector 검색 유지)
+ */
+@Component
+public class ExactSearchEngine extends InMemorySearchEngine<ExactVectorStore> {
+
+    public static final String NAME = "exact";
+
+    // 병렬 검색 스레드 수 (0이면 CPU 코어 수)
+    @Value("${similar-case.exact.parallelism:0}")
+    private int parallelism;
+
+    @Value("${similar-case.exact.initial-capacity:1024}")
+    private int initialCapacity;
+
+    private ForkJoinPool pool;
+
+    public ExactSearchEngine(ExampleCaseVectorLoader vectorLoader, ThreadPoolTaskExecutor backgroundJobExecutor) {
+        super(vectorLoader, backgroundJobExecutor);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    protected boolean isSupported() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    @Override
+    protected synchronized ExactVectorStore newIndex() {
+        if (pool == null) {
+            int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+            pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        }
+        return new ExactVectorStore(DIMENSION, initialCapacity, pool);
+    }
+
+    @Override
+    protected void add(ExactVectorStore index, UUID id, float[] embedding) {
+        index.add(id, embedding);
+    }
+
+    @Override
+    protected void remove(ExactVectorStore index, UUID id) {
+        index.remove(id);
+    }
+
+    @Override
+    protected List<SimilarCase> search(ExactVectorStore index, float[] embedding, int k) {
+        return index.search(embedding, k);
+    }
+
+    @Override
+    protected int size(ExactVectorStore index) {
+        return index.size();
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+}
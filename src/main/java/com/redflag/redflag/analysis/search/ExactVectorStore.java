@@ -0,0 +1,257 @@
+package com.redflag.redflag.analysis.search;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 정확한(전수) 코사인 top-k 검색용 벡터 저장소
+ * - 정규화한 벡터를 연속된 off-heap 행렬(direct ByteBuffer)에 행 단위로 저장
+ * - 내적은 Vector API(jdk.incubator.vector)로 SIMD 계산, 행을 구간으로 나눠 여러 코어에서 병렬 검색
+ * - 구간마다 크기 k의 top-k를 유지하고 마지막에 병합 (전체 정렬 없음)
+ * - 삭제는 마지막 행을 빈 자리로 옮겨 행렬을 연속으로 유지
+ * Spring 의존성이 없어 벤치마크 등에서 단독으로 사용 가능 (--add-modules jdk.incubator.vector 필요)
+ */
+public final class ExactVectorStore {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final ByteOrder ORDER = ByteOrder.nativeOrder();
+
+    // 이 행 수보다 적으면 병렬로 나누지 않음
+    private static final int MIN_ROWS_PER_TASK = 4096;
+
+    private final int dimension;
+    private final int rowBytes;
+    private final ForkJoinPool pool;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> rowsById = new HashMap<>();
+    private ByteBuffer matrix;
+    private UUID[] ids;
+    private int rows;
+
+    /**
+     * @param pool 병렬 검색에 사용할 풀 (null이면 호출 스레드에서만 검색)
+     */
+    public ExactVectorStore(int dimension, int initialCapacity, ForkJoinPool pool) {
+        this.dimension = dimension;
+        this.rowBytes = dimension * Float.BYTES;
+        this.pool = pool;
+        int capacity = Math.max(initialCapacity, 16);
+        this.matrix = ByteBuffer.allocateDirect(capacity * rowBytes).order(ORDER);
+        this.ids = new UUID[capacity];
+    }
+
+    // 벡터 추가 (같은 ID가 있으면 덮어씀)
+    public void add(UUID id, float[] vector) {
+        float[] normalized = VectorMath.normalize(vector, dimension);
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsById.get(id);
+            if (row == null) {
+                ensureCapacity(rows + 1);
+                row = rows++;
+                rowsById.put(id, row);
+                ids[row] = id;
+            }
+            int offset = row * rowBytes;
+            for (int i = 0; i < dimension; i++) {
+                matrix.putFloat(offset + i * Float.BYTES, normalized[i]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsById.remove(id);
+            if (row == null) {
+                return false;
+            }
+            int last = --rows;
+            if (row != last) {
+                // 마지막 행을 삭제된 자리로 이동
+                ByteBuffer source = matrix.duplicate();
+                source.position(last * rowBytes).limit(last * rowBytes + rowBytes);
+                ByteBuffer target = matrix.duplicate();
+                target.position(row * rowBytes);
+                target.put(source);
+                ids[row] = ids[last];
+                rowsById.put(ids[row], row);
+            }
+            ids[last] = null;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 코사인 거리 오름차순 상위 k개 (전수 검색)
+    public List<SimilarCase> search(float[] query, int k) {
+        float[] q = VectorMath.normalize(query, dimension);
+        lock.readLock().lock();
+        try {
+            if (rows == 0 || k <= 0) {
+                return List.of();
+            }
+            TopK topK = pool == null || rows < MIN_ROWS_PER_TASK * 2
+                    ? scan(q, k, 0, rows)
+                    : pool.invoke(new ScanTask(q, k, 0, rows));
+
+            List<SimilarCase> results = new ArrayList<>(topK.size());
+            for (int i = 0; i < topK.size(); i++) {
+                results.add(new SimilarCase(ids[topK.row(i)], 1.0 - topK.score(i)));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 행렬이 차지하는 off-heap 메모리 (bytes)
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return matrix.capacity();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private TopK scan(float[] q, int k, int from, int to) {
+        TopK topK = new TopK(k);
+        for (int row = from; row < to; row++) {
+            topK.offer(row, dot(row * rowBytes, q));
+        }
+        return topK;
+    }
+
+    private float dot(int offset, float[] q) {
+        FloatVector acc = FloatVector.zero(SPECIES);
+        int i = 0;
+        int upper = SPECIES.loopBound(dimension);
+        for (; i < upper; i += SPECIES.length()) {
+            FloatVector a = FloatVector.fromByteBuffer(SPECIES, matrix, offset + i * Float.BYTES, ORDER);
+            FloatVector b = FloatVector.fromArray(SPECIES, q, i);
+            acc = a.fma(b, acc);
+        }
+        float sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < dimension; i++) {
+            sum += matrix.getFloat(offset + i * Float.BYTES) * q[i];
+        }
+        return sum;
+    }
+
+    private void ensureCapacity(int required) {
+        int capacity = ids.length;
+        if (required <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(required, capacity * 2);
+        ByteBuffer grown = ByteBuffer.allocateDirect(newCapacity * rowBytes).order(ORDER);
+        ByteBuffer source = matrix.duplicate();
+        source.position(0).limit(rows * rowBytes);
+        grown.put(source);
+        matrix = grown;
+        ids = Arrays.copyOf(ids, newCapacity);
+    }
+
+    // 행 구간을 반씩 나눠 병렬 검색
+    private final class ScanTask extends RecursiveTask<TopK> {
+        private final float[] q;
+        private final int k;
+        private final int from;
+        private final int to;
+
+        private ScanTask(float[] q, int k, int from, int to) {
+            this.q = q;
+            this.k = k;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from <= MIN_ROWS_PER_TASK) {
+                return scan(q, k, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(q, k, from, mid);
+            left.fork();
+            TopK right = new ScanTask(q, k, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * 크기 k의 상위 점수 목록 (점수 내림차순 정렬 유지)
+     * k가 작으므로(3~10) 힙 대신 삽입 정렬, 박싱/객체 할당 없음
+     */
+    static final class TopK {
+        private final int[] rows;
+        private final float[] scores;
+        private int size;
+
+        TopK(int k) {
+            this.rows = new int[k];
+            this.scores = new float[k];
+        }
+
+        void offer(int row, float score) {
+            int k = rows.length;
+            if (size == k && score <= scores[k - 1]) {
+                return;
+            }
+            int i = size == k ? k - 1 : size++;
+            while (i > 0 && scores[i - 1] < score) {
+                scores[i] = scores[i - 1];
+                rows[i] = rows[i - 1];
+                i--;
+            }
+            scores[i] = score;
+            rows[i] = row;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int row(int i) {
+            return rows[i];
+        }
+
+        float score(int i) {
+            return scores[i];
+        }
+
+        TopK merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.rows[i], other.scores[i]);
+            }
+            return this;
+        }
+    }
+}
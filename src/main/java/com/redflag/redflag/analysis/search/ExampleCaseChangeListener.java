@@ -0,0 +1,34 @@
+package com.redflag.redflag.analysis.search;
+
+import com.redflag.redflag.analysis.domain.ExampleCase;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * ExampleCase 엔티티 변경을 ExampleCaseChangedEvent로 발행
+ * 인덱스 반영은 커밋 이후 (@TransactionalEventListener)
+ */
+@Component
+@RequiredArgsConstructor
+public class ExampleCaseChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(ExampleCase exampleCase) {
+        // 임베딩이 없거나 다른 사례로 통합된 사례는 검색 대상이 아니므로 삭제 이벤트로 처리
+        boolean searchable = exampleCase.getEmbedding() != null && exampleCase.getDuplicateOf() == null;
+        float[] embedding = searchable ? exampleCase.getEmbedding().toArray() : null;
+        eventPublisher.publishEvent(new ExampleCaseChangedEvent(exampleCase.getId(), exampleCase.getCategory(), embedding));
+    }
+
+    @PostRemove
+    public void onRemoved(ExampleCase exampleCase) {
+        eventPublisher.publishEvent(new ExampleCaseChangedEvent(exampleCase.getId(), exampleCase.getCategory(), null));
+    }
+}
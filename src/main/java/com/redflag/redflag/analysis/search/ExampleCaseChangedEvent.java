@@ -0,0 +1,14 @@
+package com.redflag.redflag.analysis.search;
+
+import java.util.UUID;
+
+/**
+ * ExampleCase 추가/수정/삭제 이벤트 (인메모리 검색 인덱스 갱신용)
+ * 삭제 이벤트는 embedding이 null
+ */
+public record ExampleCaseChangedEvent(UUID exampleCaseId, String category, float[] embedding) {
+
+    public boolean isRemoved() {
+        return embedding == null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.redflag.redflag.analysis.search;
+
+import com.pgvector.PGvector;
+import com.redflag.redflag.analysis.repository.PgvectorTypes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 인메모리 검색 인덱스 구축용 example_case 전체 임베딩 조회
+ * 읽기 전용 트랜잭션 + fetchSize로 커서 조회 (전체 결과를 한 번에 메모리에 올리지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ExampleCaseVectorLoader {
+
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // duplicateOf: 통합된 사례면 대표 사례 ID (forEachIncludingDuplicates에서만 값이 있음)
+    public record CaseVector(UUID id, String category, float[] embedding, UUID duplicateOf) {
+    }
+
+    // 검색 대상(임베딩이 있고 통합되지 않은) 사례를 순서대로 전달, 처리한 건수 반환
+    public int forEach(Consumer<CaseVector> consumer) {
+        return query("SELECT id, category, embedding, duplicate_of FROM example_case " +
+                "WHERE embedding IS NOT NULL AND duplicate_of IS NULL", consumer);
+    }
+
+    // 통합된 사례를 포함한 전체 사례 (대표 사례가 먼저, 같은 그룹 안에서는 ID 순)
+    public int forEachIncludingDuplicates(Consumer<CaseVector> consumer) {
+        return query("SELECT id, category, embedding, duplicate_of FROM example_case " +
+                "WHERE embedding IS NOT NULL ORDER BY duplicate_of IS NOT NULL, id", consumer);
+    }
+
+    private int query(String sql, Consumer<CaseVector> consumer) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        Integer count = transaction.execute(status -> {
+            int[] loaded = {0};
+            jdbcTemplate.query(connection -> {
+                PgvectorTypes.register(connection);
+                var statement = connection.prepareStatement(sql);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, rs -> {
+                consumer.accept(new CaseVector(
+                        rs.getObject(1, UUID.class),
+                        rs.getString(2),
+                        ((PGvector) rs.getObject(3)).toArray(),
+                        rs.getObject(4, UUID.class)));
+                loaded[0]++;
+            });
+            return loaded[0];
+        });
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,367 @@
+package com.redflag.redflag.analysis.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 코사인 거리 기반 HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ * - 벡터는 정규화해서 저장하므로 거리 = 1 - 내적 (pgvector의 <=> 연산자와 동일한 값)
+ * - 검색은 동시에 여러 스레드에서, 추가/삭제는 쓰기 락으로 한 번에 하나씩
+ * - 삭제는 표시만 하고 그래프 탐색에는 계속 사용 (삭제 비율이 커지면 호출 측에서 재구축)
+ * Spring 의존성이 없어 벤치마크 등에서 단독으로 사용 가능
+ */
+public final class HnswIndex {
+
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> nodeIds = new HashMap<>();
+    private Node[] nodes = new Node[1024];
+    private int nodeCount;
+    private int deletedCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    /**
+     * @param dimension      벡터 차원 (768)
+     * @param m              레벨별 최대 이웃 수 (레벨 0은 2배)
+     * @param efConstruction 삽입 시 탐색 후보 수 (클수록 그래프 품질↑, 구축 속도↓)
+     */
+    public HnswIndex(int dimension, int m, int efConstruction) {
+        this(dimension, m, efConstruction, 42L);
+    }
+
+    public HnswIndex(int dimension, int m, int efConstruction, long seed) {
+        if (m < 2) {
+            throw new IllegalArgumentException("m은 2 이상이어야 합니다: " + m);
+        }
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMultiplier = 1.0 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+    }
+
+    // 벡터 추가 (같은 ID가 있으면 기존 벡터를 삭제 처리하고 새로 추가)
+    public void add(UUID id, float[] vector) {
+        float[] normalized = VectorMath.normalize(vector, dimension);
+        lock.writeLock().lock();
+        try {
+            Integer existing = nodeIds.get(id);
+            if (existing != null) {
+                markDeleted(existing);
+            }
+            insert(id, normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeIds.remove(id);
+            if (node == null) {
+                return false;
+            }
+            markDeleted(node);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(UUID id) {
+        lock.readLock().lock();
+        try {
+            return nodeIds.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 k개 근사 검색
+     * @param ef 레벨 0 탐색 후보 수 (k 이상, 클수록 재현율↑, 지연↑)
+     * @return 거리 오름차순
+     */
+    public List<SimilarCase> search(float[] query, int k, int ef) {
+        float[] q = VectorMath.normalize(query, dimension);
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return List.of();
+            }
+            int ep = entryPoint;
+            for (int level = maxLevel; level > 0; level--) {
+                ep = greedyClosest(q, ep, level);
+            }
+            // 삭제 표시된 노드가 결과 자리를 차지할 수 있으므로 그만큼 여유를 둠
+            int effectiveEf = Math.max(ef, k) + Math.min(deletedCount, k);
+            List<Candidate> candidates = searchLayer(q, ep, effectiveEf, 0);
+
+            List<SimilarCase> results = new ArrayList<>(k);
+            for (Candidate candidate : candidates) {
+                Node node = nodes[candidate.node];
+                if (!node.deleted) {
+                    results.add(new SimilarCase(node.id, candidate.distance));
+                    if (results.size() == k) {
+                        break;
+                    }
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색 가능한 벡터 수
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 삭제 표시만 된 노드 수 (재구축 판단용)
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    private void insert(UUID id, float[] vector) {
+        int level = randomLevel();
+        int index = nodeCount++;
+        if (index == nodes.length) {
+            nodes = Arrays.copyOf(nodes, nodes.length * 2);
+        }
+        Node node = new Node(id, vector, level, maxM0, m);
+        nodes[index] = node;
+        nodeIds.put(id, index);
+
+        if (entryPoint < 0) {
+            entryPoint = index;
+            maxLevel = level;
+            return;
+        }
+
+        int ep = entryPoint;
+        for (int lc = maxLevel; lc > level; lc--) {
+            ep = greedyClosest(vector, ep, lc);
+        }
+
+        for (int lc = Math.min(level, maxLevel); lc >= 0; lc--) {
+            List<Candidate> candidates = searchLayer(vector, ep, efConstruction, lc);
+            int[] selected = selectNeighbors(candidates, m);
+            System.arraycopy(selected, 0, node.links[lc], 0, selected.length);
+            node.linkCounts[lc] = selected.length;
+
+            for (int neighbor : selected) {
+                connect(neighbor, index, lc);
+            }
+            ep = candidates.get(0).node;
+        }
+
+        if (level > maxLevel) {
+            entryPoint = index;
+            maxLevel = level;
+        }
+    }
+
+    // 이웃 노드에 역방향 연결 추가 (최대 이웃 수를 넘으면 휴리스틱으로 다시 선택)
+    private void connect(int from, int to, int level) {
+        Node node = nodes[from];
+        int count = node.linkCounts[level];
+        int limit = maxLinks(level);
+        if (count < limit) {
+            node.links[level][count] = to;
+            node.linkCounts[level] = count + 1;
+            return;
+        }
+
+        List<Candidate> candidates = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            int linked = node.links[level][i];
+            candidates.add(new Candidate(linked, distance(node.vector, nodes[linked].vector)));
+        }
+        candidates.add(new Candidate(to, distance(node.vector, nodes[to].vector)));
+        candidates.sort(Candidate.BY_DISTANCE);
+
+        int[] selected = selectNeighbors(candidates, limit);
+        System.arraycopy(selected, 0, node.links[level], 0, selected.length);
+        node.linkCounts[level] = selected.length;
+    }
+
+    // 상위 레벨 탐색: 더 가까운 이웃이 없을 때까지 이동
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float currentDistance = distance(query, nodes[current].vector);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            Node node = nodes[current];
+            for (int i = 0; i < node.linkCounts[level]; i++) {
+                int neighbor = node.links[level][i];
+                float d = distance(query, nodes[neighbor].vector);
+                if (d < currentDistance) {
+                    currentDistance = d;
+                    current = neighbor;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // 한 레벨에서 ef개 후보 탐색, 거리 오름차순으로 반환
+    private List<Candidate> searchLayer(float[] query, int entry, int ef, int level) {
+        BitSet visited = new BitSet(nodeCount);
+        visited.set(entry);
+
+        Candidate start = new Candidate(entry, distance(query, nodes[entry].vector));
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Candidate.BY_DISTANCE);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Candidate.BY_DISTANCE.reversed());
+        candidates.add(start);
+        results.add(start);
+
+        while (!candidates.isEmpty()) {
+            Candidate current = candidates.poll();
+            if (current.distance > results.peek().distance && results.size() >= ef) {
+                break;
+            }
+            Node node = nodes[current.node];
+            for (int i = 0; i < node.linkCounts[level]; i++) {
+                int neighbor = node.links[level][i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float d = distance(query, nodes[neighbor].vector);
+                if (results.size() < ef || d < results.peek().distance) {
+                    Candidate candidate = new Candidate(neighbor, d);
+                    candidates.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(Candidate.BY_DISTANCE);
+        return sorted;
+    }
+
+    // 이웃 선택 휴리스틱: 이미 선택된 이웃보다 질의에 더 가까운 후보만 선택해 여러 방향으로 연결
+    // 부족한 자리는 제외된 후보 중 가까운 순으로 채움
+    private int[] selectNeighbors(List<Candidate> sortedCandidates, int limit) {
+        if (sortedCandidates.size() <= limit) {
+            return sortedCandidates.stream().mapToInt(c -> c.node).toArray();
+        }
+
+        List<Candidate> selected = new ArrayList<>(limit);
+        List<Candidate> discarded = new ArrayList<>();
+        for (Candidate candidate : sortedCandidates) {
+            if (selected.size() >= limit) {
+                break;
+            }
+            boolean diverse = true;
+            for (Candidate chosen : selected) {
+                if (distance(nodes[candidate.node].vector, nodes[chosen.node].vector) < candidate.distance) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                discarded.add(candidate);
+            }
+        }
+        for (int i = 0; i < discarded.size() && selected.size() < limit; i++) {
+            selected.add(discarded.get(i));
+        }
+        return selected.stream().mapToInt(c -> c.node).toArray();
+    }
+
+    private void markDeleted(int index) {
+        Node node = nodes[index];
+        if (!node.deleted) {
+            node.deleted = true;
+            deletedCount++;
+        }
+    }
+
+    private int maxLinks(int level) {
+        return level == 0 ? maxM0 : m;
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+    }
+
+    // 누산기 4개로 나눠 의존성 체인을 끊음 (JIT가 루프를 펼쳐 병렬로 계산)
+    private static float distance(float[] a, float[] b) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (int bound = a.length & ~3; i < bound; i += 4) {
+            s0 += a[i] * b[i];
+            s1 += a[i + 1] * b[i + 1];
+            s2 += a[i + 2] * b[i + 2];
+            s3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < a.length; i++) {
+            s0 += a[i] * b[i];
+        }
+        return 1 - (s0 + s1 + s2 + s3);
+    }
+
+    private record Candidate(int node, float distance) {
+        static final Comparator<Candidate> BY_DISTANCE = Comparator.comparingDouble(Candidate::distance);
+    }
+
+    private static final class Node {
+        private final UUID id;
+        private final float[] vector;
+        private final int[][] links;
+        private final int[] linkCounts;
+        private boolean deleted;
+
+        private Node(UUID id, float[] vector, int level, int maxM0, int m) {
+            this.id = id;
+            this.vector = vector;
+            this.links = new int[level + 1][];
+            this.linkCounts = new int[level + 1];
+            for (int lc = 0; lc <= level; lc++) {
+                links[lc] = new int[lc == 0 ? maxM0 : m];
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.redflag.redflag.analysis.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인메모리 HNSW 인덱스 검색 엔진 (근사 검색, similar-case.search.engine=hnsw로 지정한 경우만 사용)
+ * 삭제 표시 비율이 rebuild-deleted-ratio를 넘으면 전체 재구축
+ */
+@Component
+public class HnswSearchEngine extends InMemorySearchEngine<HnswIndex> {
+
+    public static final String NAME = "hnsw";
+
+    @Value("${similar-case.hnsw.m:16}")
+    private int m;
+
+    @Value("${similar-case.hnsw.ef-construction:200}")
+    private int efConstruction;
+
+    @Value("${similar-case.hnsw.ef-search:64}")
+    private int efSearch;
+
+    @Value("${similar-case.hnsw.rebuild-deleted-ratio:0.2}")
+    private double rebuildDeletedRatio;
+
+    public HnswSearchEngine(ExampleCaseVectorLoader vectorLoader, ThreadPoolTaskExecutor backgroundJobExecutor) {
+        super(vectorLoader, backgroundJobExecutor);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    protected HnswIndex newIndex() {
+        return new HnswIndex(DIMENSION, m, efConstruction);
+    }
+
+    @Override
+    protected void add(HnswIndex index, UUID id, float[] embedding) {
+        index.add(id, embedding);
+    }
+
+    @Override
+    protected void remove(HnswIndex index, UUID id) {
+        index.remove(id);
+    }
+
+    @Override
+    protected List<SimilarCase> search(HnswIndex index, float[] embedding, int k) {
+        return index.search(embedding, k, efSearch);
+    }
+
+    @Override
+    protected int size(HnswIndex index) {
+        return index.size();
+    }
+
+    @Override
+    protected boolean needsRebuild(HnswIndex index) {
+        return index.deletedCount() > Math.max(100, index.size() * rebuildDeletedRatio);
+    }
+}
@@ -0,0 +1,211 @@
+package com.redflag.redflag.analysis.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * ExampleCase 임베딩 전체를 메모리에 올려 검색하는 엔진의 공통 동작
+ * - 설정된 검색 엔진(similar-case.search.engine)일 때만 서버 시작 후 backgroundJobExecutor에서 구축
+ * - 구축이 끝나기 전에는 isAvailable() = false (pgvector로 대체)
+ * - 인덱스는 category별 파티션으로 나눠 보관 (카테고리 검색은 해당 파티션만, 전체 검색은 파티션별 top-k 병합)
+ * - ExampleCase 변경 이벤트로 증분 갱신, 구축 중 발생한 이벤트는 구축 완료 후 순서대로 반영
+ * - needsRebuild()가 true가 되면 백그라운드 재구축 (재구축 중에는 기존 인덱스로 계속 검색)
+ *
+ * @param <I> 파티션 하나의 인덱스 타입
+ */
+@Slf4j
+public abstract class InMemorySearchEngine<I> implements SimilarCaseSearchEngine {
+
+    protected static final int DIMENSION = 768;
+
+    // category가 없는 사례의 파티션 키
+    private static final String UNCATEGORIZED = "";
+
+    private final ExampleCaseVectorLoader vectorLoader;
+    private final ThreadPoolTaskExecutor backgroundJobExecutor;
+
+    @Value("${similar-case.search.engine:pgvector}")
+    private String configuredEngine;
+
+    private volatile Partitions<I> partitions;
+    private volatile boolean ready;
+
+    private final List<ExampleCaseChangedEvent> pendingEvents = new ArrayList<>();
+    private boolean building;
+
+    protected InMemorySearchEngine(ExampleCaseVectorLoader vectorLoader, ThreadPoolTaskExecutor backgroundJobExecutor) {
+        this.vectorLoader = vectorLoader;
+        this.backgroundJobExecutor = backgroundJobExecutor;
+    }
+
+    protected abstract I newIndex();
+
+    protected abstract void add(I index, UUID id, float[] embedding);
+
+    protected abstract void remove(I index, UUID id);
+
+    protected abstract List<SimilarCase> search(I index, float[] embedding, int k);
+
+    protected abstract int size(I index);
+
+    // 삭제 누적 등으로 재구축이 필요한지
+    protected boolean needsRebuild(I index) {
+        return false;
+    }
+
+    // 엔진을 사용할 수 없는 환경이면 false (구축하지 않음)
+    protected boolean isSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return ready;
+    }
+
+    @Override
+    public List<SimilarCase> search(float[] embedding, int k, String category) {
+        Partitions<I> current = partitions;
+        if (category != null) {
+            I partition = current.byCategory.get(category);
+            return partition == null ? List.of() : search(partition, embedding, k);
+        }
+
+        List<SimilarCase> merged = new ArrayList<>();
+        for (I partition : current.byCategory.values()) {
+            merged.addAll(search(partition, embedding, k));
+        }
+        merged.sort(Comparator.comparingDouble(SimilarCase::distance));
+        return merged.size() > k ? List.copyOf(merged.subList(0, k)) : merged;
+    }
+
+    @Override
+    public Set<UUID> categoryMembers(Collection<SimilarCase> cases, String category) {
+        Partitions<I> current = partitions;
+        return cases.stream()
+                .map(SimilarCase::exampleCaseId)
+                .filter(id -> category.equals(current.categoryById.get(id)))
+                .collect(Collectors.toSet());
+    }
+
+    // 인덱스에 포함된 사례 수 (구축 전이면 0)
+    public int size() {
+        Partitions<I> current = partitions;
+        return current == null ? 0 : current.categoryById.size();
+    }
+
+    // 파티션별 인덱스 (메트릭 등 조회용)
+    protected Iterable<I> currentIndexes() {
+        Partitions<I> current = partitions;
+        return current == null ? List.of() : current.byCategory.values();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (name().equals(configuredEngine)) {
+            rebuildAsync();
+        }
+    }
+
+    public void rebuildAsync() {
+        if (!isSupported()) {
+            log.warn("{} 검색 엔진을 사용할 수 없는 환경입니다 - pgvector 검색 유지", name());
+            return;
+        }
+        synchronized (pendingEvents) {
+            if (building) {
+                return;
+            }
+            building = true;
+        }
+        backgroundJobExecutor.execute(this::rebuild);
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            Partitions<I> newPartitions = new Partitions<>();
+            int loaded = vectorLoader.forEach(vector ->
+                    put(newPartitions, vector.id(), vector.category(), vector.embedding()));
+
+            synchronized (pendingEvents) {
+                pendingEvents.forEach(event -> apply(newPartitions, event));
+                pendingEvents.clear();
+                partitions = newPartitions;
+                ready = true;
+                building = false;
+            }
+            log.info("{} 인덱스 구축 완료 - {}건, 파티션 {}개, {}ms", name(), loaded,
+                    newPartitions.byCategory.size(), System.currentTimeMillis() - start);
+        } catch (Exception | OutOfMemoryError | LinkageError e) {
+            // LinkageError: Vector API 클래스 초기화 실패 등 (해당 엔진은 사용 불가, pgvector 검색 유지)
+            synchronized (pendingEvents) {
+                pendingEvents.clear();
+                building = false;
+            }
+            log.error("{} 인덱스 구축 실패 (기존 검색 유지): {}", name(), e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExampleCaseChanged(ExampleCaseChangedEvent event) {
+        synchronized (pendingEvents) {
+            if (building) {
+                pendingEvents.add(event);
+            }
+            if (partitions != null) {
+                apply(partitions, event);
+            }
+        }
+
+        Partitions<I> current = partitions;
+        if (current != null && current.byCategory.values().stream().anyMatch(this::needsRebuild)) {
+            log.info("{} 인덱스 재구축 시작", name());
+            rebuildAsync();
+        }
+    }
+
+    private void apply(Partitions<I> target, ExampleCaseChangedEvent event) {
+        if (event.isRemoved()) {
+            delete(target, event.exampleCaseId());
+        } else {
+            put(target, event.exampleCaseId(), event.category(), event.embedding());
+        }
+    }
+
+    // 카테고리가 바뀐 경우 이전 파티션에서 제거 후 추가
+    private void put(Partitions<I> target, UUID id, String category, float[] embedding) {
+        String key = category == null ? UNCATEGORIZED : category;
+        String previous = target.categoryById.put(id, key);
+        if (previous != null && !previous.equals(key)) {
+            remove(target.byCategory.get(previous), id);
+        }
+        add(target.byCategory.computeIfAbsent(key, k -> newIndex()), id, embedding);
+    }
+
+    private void delete(Partitions<I> target, UUID id) {
+        String previous = target.categoryById.remove(id);
+        if (previous != null) {
+            remove(target.byCategory.get(previous), id);
+        }
+    }
+
+    private static final class Partitions<I> {
+        private final Map<String, I> byCategory = new ConcurrentHashMap<>();
+        private final Map<UUID, String> categoryById = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,284 @@
+package com.redflag.redflag.analysis.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * example_case.embedding의 pgvector ANN 인덱스(HNSW 또는 IVFFlat) 관리
+ * - 서버 시작 시 인덱스가 없으면 생성 (CREATE INDEX CONCURRENTLY, 검색/쓰기를 막지 않음)
+ * - 파라미터 변경 시 관리자 API로 재구축 (새 인덱스 생성 → 기존 인덱스 삭제 → 이름 변경)
+ * - 모든 ANN 인덱스는 통합되지 않은 사례만 포함 (WHERE duplicate_of IS NULL)
+ * - category별 부분 인덱스(AND category = '...')를 함께 관리해 category 검색이 해당 사례만 탐색하도록 함
+ *   (partition-min-rows보다 작은 category는 category B-tree 인덱스 + 전수 비교로 충분)
+ * 검색 시 hnsw.ef_search / ivfflat.probes는 ExampleCaseVectorRepositoryImpl에서 트랜잭션 단위로 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PgvectorIndexManager {
+
+    public static final String INDEX_NAME = "idx_example_case_embedding";
+    private static final String BUILDING_INDEX_NAME = INDEX_NAME + "_new";
+    private static final String CATEGORY_INDEX_PREFIX = INDEX_NAME + "_c_";
+    private static final String CATEGORY_BTREE_INDEX_NAME = "idx_example_case_category";
+
+    public enum BuildState { NOT_BUILT, BUILDING, READY, FAILED }
+
+    public record BuildStatus(BuildState state, String definition, LocalDateTime startedAt,
+                              LocalDateTime finishedAt, String error) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolTaskExecutor backgroundJobExecutor;
+
+    // hnsw | ivfflat | none
+    @Value("${similar-case.pgvector.index.type:hnsw}")
+    private String indexType;
+
+    @Value("${similar-case.pgvector.index.auto-create:true}")
+    private boolean autoCreate;
+
+    @Value("${similar-case.pgvector.hnsw.m:16}")
+    private int hnswM;
+
+    @Value("${similar-case.pgvector.hnsw.ef-construction:64}")
+    private int hnswEfConstruction;
+
+    @Value("${similar-case.pgvector.ivfflat.lists:100}")
+    private int ivfflatLists;
+
+    @Value("${similar-case.pgvector.index.partition-by-category:true}")
+    private boolean partitionByCategory;
+
+    // 부분 ANN 인덱스를 만들 category의 최소 사례 수
+    @Value("${similar-case.pgvector.index.partition-min-rows:1000}")
+    private long partitionMinRows;
+
+    // 검색 시 HNSW 후보 수 (클수록 재현율↑, 지연↑)
+    @Value("${similar-case.pgvector.hnsw.ef-search:40}")
+    private int efSearch;
+
+    // 검색 시 IVFFlat 탐색 리스트 수 (클수록 재현율↑, 지연↑)
+    @Value("${similar-case.pgvector.ivfflat.probes:10}")
+    private int probes;
+
+    private final AtomicReference<BuildStatus> buildStatus =
+            new AtomicReference<>(new BuildStatus(BuildState.NOT_BUILT, null, null, null, null));
+
+    public boolean isEnabled() {
+        return !"none".equalsIgnoreCase(indexType);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexOnStartup() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            String existing = currentDefinition();
+            if (existing != null) {
+                buildStatus.set(new BuildStatus(BuildState.READY, existing, null, null, null));
+                if (!existing.contains("USING " + indexType.toLowerCase())) {
+                    log.warn("pgvector 인덱스 유형이 설정과 다릅니다 (재구축 필요): {}", existing);
+                }
+                if (!existing.contains("duplicate_of IS NULL")) {
+                    log.warn("pgvector 인덱스가 통합된 사례를 포함합니다 (재구축 권장): {}", existing);
+                }
+                // 없는 category 부분 인덱스만 생성
+                backgroundJobExecutor.execute(() -> buildCategoryIndexes(false));
+                return;
+            }
+            if (autoCreate) {
+                rebuildAsync();
+            }
+        } catch (Exception e) {
+            log.error("pgvector 인덱스 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    // 백그라운드 (재)구축, 인덱스를 사용하지 않거나 이미 구축 중이면 false
+    public boolean rebuildAsync() {
+        BuildStatus current = buildStatus.get();
+        if (!isEnabled() || current.state() == BuildState.BUILDING) {
+            return false;
+        }
+        String definition = indexDefinition(BUILDING_INDEX_NAME);
+        BuildStatus building = new BuildStatus(BuildState.BUILDING, definition, LocalDateTime.now(), null, null);
+        if (!buildStatus.compareAndSet(current, building)) {
+            return false;
+        }
+
+        backgroundJobExecutor.execute(() -> rebuild(building));
+        return true;
+    }
+
+    private void rebuild(BuildStatus building) {
+        long start = System.currentTimeMillis();
+        try {
+            // 이전 구축이 중단되어 남은 INVALID 인덱스 정리
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + BUILDING_INDEX_NAME);
+            jdbcTemplate.execute(building.definition());
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + INDEX_NAME);
+            jdbcTemplate.execute("ALTER INDEX " + BUILDING_INDEX_NAME + " RENAME TO " + INDEX_NAME);
+
+            buildStatus.set(new BuildStatus(BuildState.READY, currentDefinition(), building.startedAt(),
+                    LocalDateTime.now(), null));
+            log.info("pgvector 인덱스 구축 완료 - {}ms, {}", System.currentTimeMillis() - start, building.definition());
+
+            buildCategoryIndexes(true);
+        } catch (Exception e) {
+            buildStatus.set(new BuildStatus(BuildState.FAILED, building.definition(), building.startedAt(),
+                    LocalDateTime.now(), "인덱스 구축 중 오류가 발생했습니다."));
+            log.error("pgvector 인덱스 구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // category별 부분 인덱스 생성 (recreate = true면 현재 설정값으로 다시 생성), 필요 없어진 인덱스는 삭제
+    private void buildCategoryIndexes(boolean recreate) {
+        if (!partitionByCategory) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + CATEGORY_BTREE_INDEX_NAME
+                    + " ON example_case (category)");
+
+            List<Map<String, Object>> counts = jdbcTemplate.queryForList(
+                    "SELECT category, count(*) AS cnt FROM example_case " +
+                    "WHERE category IS NOT NULL AND embedding IS NOT NULL AND duplicate_of IS NULL GROUP BY category");
+            List<String> existing = categoryIndexNames();
+            Set<String> wanted = new HashSet<>();
+
+            for (Map<String, Object> row : counts) {
+                String category = (String) row.get("category");
+                long rows = ((Number) row.get("cnt")).longValue();
+                if (rows < partitionMinRows) {
+                    continue;
+                }
+                String name = categoryIndexName(category);
+                wanted.add(name);
+                if (existing.contains(name) && !recreate) {
+                    continue;
+                }
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+                jdbcTemplate.execute(indexDefinition(name, category, rows));
+                log.info("pgvector category 부분 인덱스 생성 - category: {}, {}건", category, rows);
+            }
+
+            for (String name : existing) {
+                if (!wanted.contains(name)) {
+                    jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+                }
+            }
+        } catch (Exception e) {
+            log.error("pgvector category 부분 인덱스 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // category 부분 인덱스 목록 (인덱스 이름 → 정의)
+    public Map<String, String> categoryIndexDefinitions() {
+        Map<String, String> definitions = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT indexname, indexdef FROM pg_indexes " +
+                "WHERE schemaname = current_schema() AND tablename = 'example_case' AND starts_with(indexname, ?) " +
+                "ORDER BY indexname",
+                rs -> {
+                    definitions.put(rs.getString(1), rs.getString(2));
+                }, CATEGORY_INDEX_PREFIX);
+        return definitions;
+    }
+
+    private List<String> categoryIndexNames() {
+        return List.copyOf(categoryIndexDefinitions().keySet());
+    }
+
+    // 인덱스 이름 길이 제한(63자)과 특수문자를 피하기 위해 category 해시 사용
+    private String categoryIndexName(String category) {
+        String hash = UUID.nameUUIDFromBytes(category.getBytes(StandardCharsets.UTF_8)).toString().replace("-", "");
+        return CATEGORY_INDEX_PREFIX + hash.substring(0, 12);
+    }
+
+    // SQL 문자열 리터럴 (작은따옴표 이스케이프)
+    public static String quoteLiteral(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+
+    public int efSearch() {
+        return efSearch;
+    }
+
+    public int probes() {
+        return probes;
+    }
+
+    public BuildStatus buildStatus() {
+        return buildStatus.get();
+    }
+
+    // 인덱스 크기(bytes), 없으면 null
+    public Long indexSizeBytes() {
+        return indexSizeBytes(INDEX_NAME);
+    }
+
+    public Long indexSizeBytes(String indexName) {
+        List<Long> sizes = jdbcTemplate.queryForList(
+                "SELECT pg_relation_size(c.oid) FROM pg_class c WHERE c.relname = ? AND c.relkind = 'i'",
+                Long.class, indexName);
+        return sizes.isEmpty() ? null : sizes.get(0);
+    }
+
+    // 구축 진행 상황 (pg_stat_progress_create_index), 구축 중이 아니면 빈 Map
+    public Map<String, Object> buildProgress() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT p.phase, p.tuples_done, p.tuples_total, p.blocks_done, p.blocks_total " +
+                "FROM pg_stat_progress_create_index p " +
+                "JOIN pg_class c ON c.oid = p.relid WHERE c.relname = 'example_case'");
+        return rows.isEmpty() ? Map.of() : rows.get(0);
+    }
+
+    public long caseCount() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM example_case WHERE embedding IS NOT NULL AND duplicate_of IS NULL", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private String currentDefinition() {
+        List<String> definitions = jdbcTemplate.queryForList(
+                "SELECT indexdef FROM pg_indexes " +
+                "WHERE schemaname = current_schema() AND tablename = 'example_case' AND indexname = ?",
+                String.class, INDEX_NAME);
+        return definitions.isEmpty() ? null : definitions.get(0);
+    }
+
+    private String indexDefinition(String name) {
+        return indexDefinition(name, null, 0);
+    }
+
+    // category가 있으면 category 부분 인덱스 (IVFFlat lists는 category 사례 수에 맞춰 줄임)
+    private String indexDefinition(String name, String category, long rows) {
+        String prefix = "CREATE INDEX CONCURRENTLY " + name + " ON example_case USING ";
+        String where = " WHERE duplicate_of IS NULL"
+                + (category == null ? "" : " AND category = " + quoteLiteral(category));
+        if ("ivfflat".equalsIgnoreCase(indexType)) {
+            int lists = category == null ? ivfflatLists : (int) Math.max(1, Math.min(ivfflatLists, rows / 1000));
+            return prefix + "ivfflat (embedding vector_cosine_ops) WITH (lists = " + lists + ")" + where;
+        }
+        return prefix + "hnsw (embedding vector_cosine_ops) WITH (m = " + hnswM
+                + ", ef_construction = " + hnswEfConstruction + ")" + where;
+    }
+}
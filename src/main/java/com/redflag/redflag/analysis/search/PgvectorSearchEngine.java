@@ -0,0 +1,48 @@
+package com.redflag.redflag.analysis.search;
+
+import com.redflag.redflag.analysis.repository.ExampleCaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * pgvector(<=> 연산자) 검색 엔진
+ * 항상 사용 가능하므로 다른 엔진을 사용할 수 없을 때의 기본값
+ */
+@Component
+@RequiredArgsConstructor
+public class PgvectorSearchEngine implements SimilarCaseSearchEngine {
+
+    public static final String NAME = "pgvector";
+
+    private final ExampleCaseRepository exampleCaseRepository;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public List<SimilarCase> search(float[] embedding, int k, String category) {
+        return exampleCaseRepository.findNearest(embedding, k, category);
+    }
+
+    @Override
+    public Set<UUID> categoryMembers(Collection<SimilarCase> cases, String category) {
+        if (cases.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> ids = cases.stream().map(SimilarCase::exampleCaseId).toList();
+        return new HashSet<>(exampleCaseRepository.findIdsByIdInAndCategory(ids, category));
+    }
+}
@@ -0,0 +1,140 @@
+package com.redflag.redflag.analysis.search;
+
+import com.redflag.redflag.analysis.repository.ExampleCaseRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * int8 양자화 검색 엔진 (QuantizedVectorStore)
+ * 1. 양자화 벡터로 후보 shortlist개 선별 (메모리 약 1/4, float 저장 대비)
+ * 2. 후보만 pgvector 원본 임베딩으로 다시 정렬 (WHERE id = ANY(?), PK 조회)
+ * recall-sample-rate 비율의 질의는 백그라운드에서 전수 검색 결과와 비교해 recall@k를 기록
+ */
+@Slf4j
+@Component
+public class QuantizedSearchEngine extends InMemorySearchEngine<QuantizedVectorStore> {
+
+    public static final String NAME = "quantized";
+
+    private final ExampleCaseRepository exampleCaseRepository;
+    private final ThreadPoolTaskExecutor analysisIoExecutor;
+    private final DistributionSummary recallSummary;
+
+    // 재정렬할 후보 수 (k의 배수가 아니라 절대값, k보다 작으면 k 사용)
+    @Value("${similar-case.quantized.shortlist:30}")
+    private int shortlist;
+
+    @Value("${similar-case.quantized.initial-capacity:1024}")
+    private int initialCapacity;
+
+    // recall@k 측정 비율 (0이면 측정하지 않음)
+    @Value("${similar-case.quantized.recall-sample-rate:0.01}")
+    private double recallSampleRate;
+
+    public QuantizedSearchEngine(ExampleCaseVectorLoader vectorLoader,
+                                 ExampleCaseRepository exampleCaseRepository,
+                                 ThreadPoolTaskExecutor analysisIoExecutor,
+                                 ThreadPoolTaskExecutor backgroundJobExecutor,
+                                 MeterRegistry meterRegistry) {
+        super(vectorLoader, backgroundJobExecutor);
+        this.exampleCaseRepository = exampleCaseRepository;
+        this.analysisIoExecutor = analysisIoExecutor;
+        this.recallSummary = DistributionSummary.builder("similar_case.quantized.recall")
+                .description("양자화 검색 recall@k (전수 검색 대비)")
+                .publishPercentiles(0.5, 0.05)
+                .register(meterRegistry);
+        Gauge.builder("similar_case.quantized.memory", this, QuantizedSearchEngine::memoryBytes)
+                .description("양자화 벡터 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    protected boolean isSupported() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    @Override
+    protected QuantizedVectorStore newIndex() {
+        return new QuantizedVectorStore(DIMENSION, initialCapacity);
+    }
+
+    @Override
+    protected void add(QuantizedVectorStore index, UUID id, float[] embedding) {
+        index.add(id, embedding);
+    }
+
+    @Override
+    protected void remove(QuantizedVectorStore index, UUID id) {
+        index.remove(id);
+    }
+
+    // 파티션별로는 근사 거리 기준 후보만 반환 (재정렬은 병합 후 한 번에)
+    @Override
+    protected List<SimilarCase> search(QuantizedVectorStore index, float[] embedding, int n) {
+        return index.shortlist(embedding, n);
+    }
+
+    @Override
+    public List<SimilarCase> search(float[] embedding, int k, String category) {
+        List<UUID> candidates = super.search(embedding, Math.max(shortlist, k), category).stream()
+                .map(SimilarCase::exampleCaseId)
+                .toList();
+        List<SimilarCase> results = exampleCaseRepository.findNearestAmong(embedding, candidates, k);
+
+        if (recallSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < recallSampleRate) {
+            sampleRecall(embedding, k, category, results);
+        }
+        return results;
+    }
+
+    @Override
+    protected int size(QuantizedVectorStore index) {
+        return index.size();
+    }
+
+    private double memoryBytes() {
+        long bytes = 0;
+        for (QuantizedVectorStore index : currentIndexes()) {
+            bytes += index.memoryBytes();
+        }
+        return bytes;
+    }
+
+    // 전수 검색 결과와 비교한 recall@k 기록 (검색 응답은 기다리지 않음)
+    private void sampleRecall(float[] embedding, int k, String category, List<SimilarCase> results) {
+        try {
+            analysisIoExecutor.execute(() -> {
+                Set<UUID> expected = exampleCaseRepository.findNearestExact(embedding, k, category).stream()
+                        .map(SimilarCase::exampleCaseId)
+                        .collect(Collectors.toSet());
+                if (expected.isEmpty()) {
+                    return;
+                }
+                long hits = results.stream().filter(r -> expected.contains(r.exampleCaseId())).count();
+                double recall = (double) hits / expected.size();
+                recallSummary.record(recall);
+                log.info("양자화 검색 recall@{}: {}", k, String.format("%.2f", recall));
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("recall 측정 생략 (I/O 스레드 풀 포화)");
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.redflag.redflag.analysis.search;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * int8 스칼라 양자화 벡터 저장소 (후보 선별용 근사 검색)
+ * - 정규화한 벡터를 차원별 int8 + 벡터별 scale(float)로 저장: v[i] ≈ codes[i] * scale
+ * - 768차원 기준 벡터당 772 bytes (float 저장 3,072 bytes 대비 약 1/4)
+ * - 근사 내적 = scale * Σ codes[i] * q[i] (질의는 float 그대로 사용해 오차를 한쪽에만 둠)
+ * 반환 거리는 근사값이므로 호출 측에서 원본 벡터로 다시 정렬해야 함
+ */
+public final class QuantizedVectorStore {
+
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+    // float와 같은 크기의 byte 벡터 (레인 수 4배), 한 번 읽은 byte 벡터를 4개 구간으로 나눠 float로 변환
+    // 모든 플랫폼에 존재하는 shape만 사용 (128-bit SSE/NEON에는 32-bit byte 벡터가 없음)
+    private static final VectorSpecies<Byte> BYTE_SPECIES = VectorSpecies.of(byte.class, FLOAT_SPECIES.vectorShape());
+    private static final int PARTS = BYTE_SPECIES.length() / FLOAT_SPECIES.length();
+
+    private final int dimension;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> rowsById = new HashMap<>();
+    private byte[] codes;
+    private float[] scales;
+    private UUID[] ids;
+    private int rows;
+
+    public QuantizedVectorStore(int dimension, int initialCapacity) {
+        this.dimension = dimension;
+        int capacity = Math.max(initialCapacity, 16);
+        this.codes = new byte[capacity * dimension];
+        this.scales = new float[capacity];
+        this.ids = new UUID[capacity];
+    }
+
+    // 벡터 추가 (같은 ID가 있으면 덮어씀)
+    public void add(UUID id, float[] vector) {
+        float[] normalized = VectorMath.normalize(vector, dimension);
+        float maxAbs = 0;
+        for (float v : normalized) {
+            maxAbs = Math.max(maxAbs, Math.abs(v));
+        }
+        float scale = maxAbs == 0 ? 0 : maxAbs / 127f;
+
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsById.get(id);
+            if (row == null) {
+                ensureCapacity(rows + 1);
+                row = rows++;
+                rowsById.put(id, row);
+                ids[row] = id;
+            }
+            int offset = row * dimension;
+            for (int i = 0; i < dimension; i++) {
+                codes[offset + i] = scale == 0 ? 0 : (byte) Math.round(normalized[i] / scale);
+            }
+            scales[row] = scale;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsById.remove(id);
+            if (row == null) {
+                return false;
+            }
+            int last = --rows;
+            if (row != last) {
+                // 마지막 행을 삭제된 자리로 이동
+                System.arraycopy(codes, last * dimension, codes, row * dimension, dimension);
+                scales[row] = scales[last];
+                ids[row] = ids[last];
+                rowsById.put(ids[row], row);
+            }
+            ids[last] = null;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 근사 코사인 거리 오름차순 상위 n개 (재정렬 후보)
+    public List<SimilarCase> shortlist(float[] query, int n) {
+        float[] q = VectorMath.normalize(query, dimension);
+        lock.readLock().lock();
+        try {
+            if (rows == 0 || n <= 0) {
+                return List.of();
+            }
+            ExactVectorStore.TopK topK = new ExactVectorStore.TopK(Math.min(n, rows));
+            for (int row = 0; row < rows; row++) {
+                topK.offer(row, scales[row] * dot(row * dimension, q));
+            }
+
+            List<SimilarCase> results = new ArrayList<>(topK.size());
+            for (int i = 0; i < topK.size(); i++) {
+                results.add(new SimilarCase(ids[topK.row(i)], 1.0 - topK.score(i)));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 양자화 벡터가 차지하는 메모리 (codes + scales, bytes)
+    public long memoryBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) codes.length + (long) scales.length * Float.BYTES;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Σ codes[i] * q[i] (byte → float 변환 후 SIMD 곱셈-누산)
+    private float dot(int offset, float[] q) {
+        FloatVector acc = FloatVector.zero(FLOAT_SPECIES);
+        int lanes = FLOAT_SPECIES.length();
+        int i = 0;
+        int upper = BYTE_SPECIES.loopBound(dimension);
+        for (; i < upper; i += BYTE_SPECIES.length()) {
+            ByteVector bytes = ByteVector.fromArray(BYTE_SPECIES, codes, offset + i);
+            for (int part = 0; part < PARTS; part++) {
+                FloatVector a = (FloatVector) bytes.convertShape(VectorOperators.B2F, FLOAT_SPECIES, part);
+                acc = a.fma(FloatVector.fromArray(FLOAT_SPECIES, q, i + part * lanes), acc);
+            }
+        }
+        float sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < dimension; i++) {
+            sum += codes[offset + i] * q[i];
+        }
+        return sum;
+    }
+
+    private void ensureCapacity(int required) {
+        int capacity = ids.length;
+        if (required <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(required, capacity * 2);
+        codes = Arrays.copyOf(codes, newCapacity * dimension);
+        scales = Arrays.copyOf(scales, newCapacity);
+        ids = Arrays.copyOf(ids, newCapacity);
+    }
+}
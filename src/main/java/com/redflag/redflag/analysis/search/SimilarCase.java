@@ -0,0 +1,9 @@
+package com.redflag.redflag.analysis.search;
+
+import java.util.UUID;
+
+/**
+ * 유사 사례 검색 결과 (코사인 거리, 0에 가까울수록 유사)
+ */
+public record SimilarCase(UUID exampleCaseId, double distance) {
+}
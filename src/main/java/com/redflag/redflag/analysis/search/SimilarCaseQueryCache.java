@@ -0,0 +1,234 @@
+package com.redflag.redflag.analysis.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 유사 사례 검색 결과 캐시 (거의 같은 임베딩의 질의 재사용)
+ * - 질의 임베딩을 랜덤 초평면 LSH 서명(bits개 부호 비트)으로 버킷팅
+ * - 같은 버킷(및 경계에 가까운 비트를 뒤집은 인접 버킷)에서 코사인 유사도가 min-similarity 이상인
+ *   이전 질의를 찾으면 그 top-k 결과를 그대로 반환 (거리는 이전 질의 기준)
+ * - 버킷 수(max-buckets)와 버킷당 질의 수(entries-per-bucket)로 크기 제한
+ * - ExampleCase 변경 이벤트가 오면 전체 무효화
+ * 메트릭: similar_case.query_cache{result=hit|miss}, cache.size{cache=similar_case.query} 등
+ */
+@Slf4j
+@Component
+public class SimilarCaseQueryCache {
+
+    private static final int DIMENSION = 768;
+
+    private final boolean enabled;
+    private final int bits;
+    private final int probes;
+    private final int entriesPerBucket;
+    private final double minSimilarity;
+
+    // bits × DIMENSION 초평면 법선 벡터 (행 단위로 펼쳐 저장)
+    private final float[] hyperplanes;
+
+    private final Cache<Key, List<Entry>> cache;
+    // 무효화 세대: 검색 도중 사례가 바뀌면 그 결과는 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public SimilarCaseQueryCache(MeterRegistry meterRegistry,
+                                 @Value("${similar-case.query-cache.enabled:true}") boolean enabled,
+                                 @Value("${similar-case.query-cache.bits:12}") int bits,
+                                 @Value("${similar-case.query-cache.probes:2}") int probes,
+                                 @Value("${similar-case.query-cache.max-buckets:10000}") long maxBuckets,
+                                 @Value("${similar-case.query-cache.entries-per-bucket:4}") int entriesPerBucket,
+                                 @Value("${similar-case.query-cache.min-similarity:0.98}") double minSimilarity,
+                                 @Value("${similar-case.query-cache.seed:42}") long seed) {
+        if (bits < 1 || bits > 31) {
+            throw new IllegalArgumentException("similar-case.query-cache.bits는 1~31이어야 합니다: " + bits);
+        }
+        this.enabled = enabled;
+        this.bits = bits;
+        this.probes = Math.min(Math.max(probes, 0), bits);
+        this.entriesPerBucket = Math.max(entriesPerBucket, 1);
+        this.minSimilarity = minSimilarity;
+
+        // 가우시안 성분의 방향은 구 위에서 균일 분포 → 초평면 LSH
+        Random random = new Random(seed);
+        this.hyperplanes = new float[bits * DIMENSION];
+        for (int i = 0; i < hyperplanes.length; i++) {
+            hyperplanes[i] = (float) random.nextGaussian();
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "similar_case.query");
+        this.hits = Counter.builder("similar_case.query_cache")
+                .description("유사 사례 검색 결과 캐시 재사용 여부")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("similar_case.query_cache")
+                .description("유사 사례 검색 결과 캐시 재사용 여부")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 결과가 있으면 반환하고, 없으면 search를 실행해 결과를 저장
+     * @param scope null이면 전체 사례 검색 (scope가 다르면 다른 버킷)
+     */
+    public List<SimilarCase> getOrSearch(float[] embedding, int k, CategoryScope scope,
+                                         Supplier<List<SimilarCase>> search) {
+        if (!enabled) {
+            return search.get();
+        }
+        float[] query = VectorMath.normalize(embedding, DIMENSION);
+        float[] projections = project(query);
+        int signature = signature(projections);
+
+        List<SimilarCase> cached = lookup(query, k, scope, signature, projections);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        long startGeneration = generation.get();
+        List<SimilarCase> results = search.get();
+        store(new Key(signature, scope), new Entry(query, k, List.copyOf(results)), startGeneration);
+        return results;
+    }
+
+    // 사례가 추가/수정/삭제되면 이전 검색 결과는 모두 무효
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExampleCaseChanged(ExampleCaseChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 자기 버킷과, 초평면에 가장 가까운(부호가 뒤집히기 쉬운) probes개 비트를 하나씩 뒤집은 버킷 조회
+     * (비슷한 질의가 경계 건너편 버킷에 저장되어 놓치는 경우를 줄임)
+     */
+    private List<SimilarCase> lookup(float[] query, int k, CategoryScope scope, int signature, float[] projections) {
+        List<SimilarCase> found = lookupBucket(query, k, new Key(signature, scope));
+        if (found != null || probes == 0) {
+            return found;
+        }
+        for (int bit : closestBits(projections)) {
+            found = lookupBucket(query, k, new Key(signature ^ (1 << bit), scope));
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private List<SimilarCase> lookupBucket(float[] query, int k, Key key) {
+        List<Entry> entries = cache.getIfPresent(key);
+        if (entries == null) {
+            return null;
+        }
+        for (Entry entry : entries) {
+            if (entry.k() >= k && dot(entry.query(), query) >= minSimilarity) {
+                return entry.results().size() > k ? entry.results().subList(0, k) : entry.results();
+            }
+        }
+        return null;
+    }
+
+    // 버킷 목록은 불변 리스트로 교체 (최근 질의가 앞, entriesPerBucket개 초과분은 제거)
+    private void store(Key key, Entry entry, long startGeneration) {
+        if (generation.get() != startGeneration) {
+            return;
+        }
+        cache.asMap().compute(key, (ignored, entries) -> {
+            List<Entry> updated = new ArrayList<>(entriesPerBucket);
+            updated.add(entry);
+            if (entries != null) {
+                for (int i = 0; i < entries.size() && updated.size() < entriesPerBucket; i++) {
+                    updated.add(entries.get(i));
+                }
+            }
+            return List.copyOf(updated);
+        });
+        // 저장 도중 무효화된 경우 방금 저장한 버킷도 제거
+        if (generation.get() != startGeneration) {
+            cache.invalidate(key);
+        }
+    }
+
+    private float[] project(float[] query) {
+        float[] projections = new float[bits];
+        for (int b = 0; b < bits; b++) {
+            int offset = b * DIMENSION;
+            float sum = 0;
+            for (int i = 0; i < DIMENSION; i++) {
+                sum += hyperplanes[offset + i] * query[i];
+            }
+            projections[b] = sum;
+        }
+        return projections;
+    }
+
+    private int signature(float[] projections) {
+        int signature = 0;
+        for (int b = 0; b < bits; b++) {
+            if (projections[b] >= 0) {
+                signature |= 1 << b;
+            }
+        }
+        return signature;
+    }
+
+    // |투영값|이 작은 순서로 probes개 비트 (선택 정렬, bits가 작아 충분)
+    private int[] closestBits(float[] projections) {
+        int[] order = new int[bits];
+        for (int b = 0; b < bits; b++) {
+            order[b] = b;
+        }
+        for (int i = 0; i < probes; i++) {
+            int min = i;
+            for (int j = i + 1; j < bits; j++) {
+                if (Math.abs(projections[order[j]]) < Math.abs(projections[order[min]])) {
+                    min = j;
+                }
+            }
+            int tmp = order[i];
+            order[i] = order[min];
+            order[min] = tmp;
+        }
+        int[] closest = new int[probes];
+        System.arraycopy(order, 0, closest, 0, probes);
+        return closest;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private record Key(int signature, CategoryScope scope) {}
+
+    private record Entry(float[] query, int k, List<SimilarCase> results) {}
+}
@@ -0,0 +1,31 @@
+package com.redflag.redflag.analysis.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 임베딩 기반 유사 사례 검색 엔진
+ */
+public interface SimilarCaseSearchEngine {
+
+    // 설정(similar-case.search.engine)에서 사용하는 엔진 이름
+    String name();
+
+    // 검색 가능 여부 (인메모리 인덱스 구축 중이면 false)
+    boolean isAvailable();
+
+    /**
+     * 코사인 거리 오름차순 상위 k개
+     * @param category null이면 전체, 지정하면 해당 category의 사례만 검색
+     */
+    List<SimilarCase> search(float[] embedding, int k, String category);
+
+    default List<SimilarCase> search(float[] embedding, int k) {
+        return search(embedding, k, null);
+    }
+
+    // 검색 결과 중 해당 category에 속한 사례 ID (BOOST 조건의 순위 보정용)
+    Set<UUID> categoryMembers(Collection<SimilarCase> cases, String category);
+}
@@ -0,0 +1,136 @@
+package com.redflag.redflag.analysis.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 유사 사례 검색 진입점
+ * similar-case.search.engine 설정의 엔진을 사용하고, 사용할 수 없으면(인덱스 구축 중 등) pgvector로 대체
+ * category 조건(CategoryScope)이 있으면 해당 category 파티션/부분 인덱스만 검색해 필터 또는 가중치 적용
+ * 거의 같은 임베딩의 반복 질의는 SimilarCaseQueryCache 결과를 재사용
+ */
+@Slf4j
+@Service
+public class SimilarCaseSearchService {
+
+    private final Map<String, SimilarCaseSearchEngine> engines;
+    private final SimilarCaseQueryCache queryCache;
+    private final MeterRegistry meterRegistry;
+
+    // pgvector | exact | hnsw | quantized (기본값 pgvector: 정확한 검색, 근사 검색 엔진은 설정으로 선택해야 사용)
+    @Value("${similar-case.search.engine:pgvector}")
+    private String engineName;
+
+    // BOOST 조건에서 같은 category 사례의 코사인 거리에서 빼는 값
+    @Value("${similar-case.category.boost:0.05}")
+    private double categoryBoost;
+
+    // BOOST 조건에서 한 번의 전체 검색으로 가져오는 후보 수 (k의 배수)
+    @Value("${similar-case.category.boost-candidates:4}")
+    private int boostCandidates;
+
+    public SimilarCaseSearchService(List<SimilarCaseSearchEngine> engines, SimilarCaseQueryCache queryCache,
+                                    MeterRegistry meterRegistry) {
+        this.engines = engines.stream()
+                .collect(Collectors.toMap(SimilarCaseSearchEngine::name, Function.identity()));
+        this.queryCache = queryCache;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public List<SimilarCase> search(float[] embedding, int k) {
+        return search(embedding, k, null);
+    }
+
+    /**
+     * @param scope null이면 전체 사례 검색
+     */
+    public List<SimilarCase> search(float[] embedding, int k, CategoryScope scope) {
+        return queryCache.getOrSearch(embedding, k, scope, () -> searchEngine(embedding, k, scope));
+    }
+
+    private List<SimilarCase> searchEngine(float[] embedding, int k, CategoryScope scope) {
+        SimilarCaseSearchEngine engine = selectEngine();
+        return Timer.builder("similar_case.search")
+                .description("유사 사례 검색 시간")
+                .tag("engine", engine.name())
+                .tag("category", scope == null ? "none" : scope.mode().name().toLowerCase())
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(() -> scope == null
+                        ? engine.search(embedding, k)
+                        : searchWithCategory(engine, embedding, k, scope));
+    }
+
+    private List<SimilarCase> searchWithCategory(SimilarCaseSearchEngine engine, float[] embedding, int k,
+                                                 CategoryScope scope) {
+        if (scope.mode() == CategoryScope.Mode.BOOST) {
+            return searchWithBoost(engine, embedding, k, scope.category());
+        }
+
+        // FILTER: category 파티션만 검색, category 사례가 k개보다 적을 때만 전체 검색 결과로 채움
+        List<SimilarCase> inCategory = engine.search(embedding, k, scope.category());
+        if (inCategory.size() >= k) {
+            return inCategory;
+        }
+        Map<UUID, SimilarCase> filled = new LinkedHashMap<>();
+        inCategory.forEach(c -> filled.put(c.exampleCaseId(), c));
+        engine.search(embedding, k).forEach(c -> { if (filled.size() < k) filled.putIfAbsent(c.exampleCaseId(), c); });
+        return List.copyOf(filled.values());
+    }
+
+    /**
+     * BOOST: 전체 검색 한 번으로 k * boostCandidates개 후보를 가져와 같은 category 사례의 거리를 줄여 상위 k개 선정
+     * 반환 결과는 실제 거리(유사도) 순으로 다시 정렬하므로 응답의 유사도와 순위가 항상 일치
+     */
+    private List<SimilarCase> searchWithBoost(SimilarCaseSearchEngine engine, float[] embedding, int k,
+                                              String category) {
+        List<SimilarCase> candidates = engine.search(embedding, k * Math.max(1, boostCandidates));
+        Set<UUID> boosted = engine.categoryMembers(candidates, category);
+
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(c ->
+                        boosted.contains(c.exampleCaseId()) ? c.distance() - categoryBoost : c.distance()))
+                .limit(k)
+                .sorted(Comparator.comparingDouble(SimilarCase::distance))
+                .toList();
+    }
+
+    // 설정(similar-case.search.engine)에 지정된 엔진 이름
+    public String configuredEngine() {
+        return engineName;
+    }
+
+    // 지금 검색에 사용되는 엔진 이름 (설정 엔진을 사용할 수 없으면 pgvector)
+    public String activeEngine() {
+        return selectEngine().name();
+    }
+
+    // 등록된 모든 엔진 (이름순)
+    public List<SimilarCaseSearchEngine> engines() {
+        return engines.values().stream()
+                .sorted(Comparator.comparing(SimilarCaseSearchEngine::name))
+                .toList();
+    }
+
+    private SimilarCaseSearchEngine selectEngine() {
+        SimilarCaseSearchEngine engine = engines.get(engineName);
+        if (engine == null) {
+            log.warn("알 수 없는 검색 엔진: {} - pgvector 사용", engineName);
+        } else if (engine.isAvailable()) {
+            return engine;
+        }
+        return engines.get(PgvectorSearchEngine.NAME);
+    }
+}
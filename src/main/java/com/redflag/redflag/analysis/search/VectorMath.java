@@ -0,0 +1,30 @@
+package com.redflag.redflag.analysis.search;
+
+/**
+ * 인메모리 검색 엔진 공통 벡터 연산
+ */
+public final class VectorMath {
+
+    private VectorMath() {
+    }
+
+    // 단위 벡터로 정규화한 복사본 (영벡터는 그대로 0)
+    public static float[] normalize(float[] vector, int dimension) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 맞지 않습니다: " + vector.length + " (기대값 " + dimension + ")");
+        }
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        norm = Math.sqrt(norm);
+        float[] normalized = new float[vector.length];
+        if (norm == 0) {
+            return normalized;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,101 @@
+package com.redflag.redflag.analysis.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 다중 패턴 문자열 검색 (Aho-Corasick)
+ * 패턴 수와 무관하게 본문을 한 번만 훑어 모든 등장 위치를 찾음
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 공유 가능
+ */
+final class AhoCorasickMatcher<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * @param patterns 패턴 문자열 → 패턴에 연결할 값 (대소문자 구분 없이 검색)
+     */
+    AhoCorasickMatcher(Map<String, T> patterns) {
+        patterns.forEach(this::insert);
+        buildFailureLinks();
+    }
+
+    private void insert(String pattern, T value) {
+        if (pattern == null || pattern.isEmpty()) {
+            return;
+        }
+        String lower = pattern.toLowerCase(Locale.ROOT);
+        Node<T> node = root;
+        for (char c : lower.toCharArray()) {
+            node = node.children.computeIfAbsent(c, k -> new Node<>());
+        }
+        node.outputs.add(new Output<>(lower.length(), value));
+    }
+
+    // BFS로 실패 링크 연결 및 출력 병합
+    private void buildFailureLinks() {
+        Queue<Node<T>> queue = new ArrayDeque<>();
+        for (Node<T> child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node<T> current = queue.poll();
+            for (Map.Entry<Character, Node<T>> entry : current.children.entrySet()) {
+                char c = entry.getKey();
+                Node<T> child = entry.getValue();
+
+                Node<T> fail = current.fail;
+                while (fail != null && !fail.children.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                child.fail = fail == null ? root : fail.children.get(c);
+                child.outputs.addAll(child.fail.outputs);
+                queue.add(child);
+            }
+        }
+    }
+
+    // 본문에서 모든 패턴 등장 위치 검색
+    List<Match<T>> findAll(String text) {
+        List<Match<T>> matches = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return matches;
+        }
+
+        Node<T> node = root;
+        String lower = text.toLowerCase(Locale.ROOT);
+        // 소문자 변환으로 길이가 달라지는 문자가 있으면 변환된 본문 기준으로 반환
+        String source = lower.length() == text.length() ? text : lower;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.children.getOrDefault(c, root);
+            for (Output<T> output : node.outputs) {
+                int start = i - output.length() + 1;
+                matches.add(new Match<>(start, i + 1, source.substring(start, i + 1), output.value()));
+            }
+        }
+        return matches;
+    }
+
+    record Match<T>(int start, int end, String text, T value) {
+    }
+
+    private record Output<T>(int length, T value) {
+    }
+
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private final List<Output<T>> outputs = new ArrayList<>();
+        private Node<T> fail;
+    }
+}
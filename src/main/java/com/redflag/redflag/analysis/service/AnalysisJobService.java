@@ -0,0 +1,234 @@
+package com.redflag.redflag.analysis.service;
+
+import com.redflag.redflag.analysis.domain.AnalysisHistory;
+import com.redflag.redflag.analysis.domain.AnalysisStatus;
+import com.redflag.redflag.analysis.dto.AnalysisImage;
+import com.redflag.redflag.analysis.repository.AnalysisHistoryRepository;
+import com.redflag.redflag.global.exception.GeneralException;
+import com.redflag.redflag.global.exception.code.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 분석 작업 대기열 관리
+ * - 업로드 이미지를 로컬 spool 디렉터리에 저장(SHA-256 계산 포함)하고 analysisExecutor에 작업 등록
+ * - 서버 재시작 시 미완료 작업을 spool 파일로부터 다시 실행
+ * - spool 파일 없이 오래 멈춰 있는 미완료 작업은 주기적으로 실패 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisJobService {
+
+    private static final List<AnalysisStatus> UNFINISHED_STATUSES =
+            List.of(AnalysisStatus.PENDING, AnalysisStatus.ANALYZING, AnalysisStatus.MATCHING);
+
+    private final ThreadPoolTaskExecutor analysisExecutor;
+    private final AnalysisPipelineService analysisPipelineService;
+    private final AnalysisHistoryRepository analysisHistoryRepository;
+
+    // 재시작 후 복구하려면 컨테이너 재시작에도 유지되는 영구 볼륨이어야 함 (Dockerfile의 VOLUME /var/lib/redflag)
+    @Value("${analysis.job.spool-dir:/var/lib/redflag/analysis-spool}")
+    private String spoolDir;
+
+    // spool 파일이 없는 미완료 작업을 실패 처리하기까지의 유예 시간 (다른 인스턴스에서 실행 중일 수 있음)
+    @Value("${analysis.job.stale-after-minutes:10}")
+    private long staleAfterMinutes;
+
+    // 업로드 이미지를 spool 디렉터리에 저장하면서 SHA-256 계산 (한 번만 읽음)
+    public AnalysisImage spool(UUID analysisId, MultipartFile image) {
+        Path target = spoolPath(analysisId, image.getOriginalFilename());
+        MessageDigest digest = sha256Digest();
+        try {
+            Files.createDirectories(target.getParent());
+            try (InputStream in = new DigestInputStream(image.getInputStream(), digest)) {
+                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.error("이미지 spool 실패 - analysisId: {}, {}", analysisId, e.getMessage());
+            throw new GeneralException(ErrorStatus.ANALYSIS_IMAGE_SPOOL_ERROR);
+        }
+        return new AnalysisImage(target, image.getOriginalFilename(), image.getContentType(), image.getSize(),
+                HexFormat.of().formatHex(digest.digest()));
+    }
+
+    // spool 파일 삭제 (동일 이미지 결과를 재사용해 분석이 필요 없는 경우)
+    public void discard(AnalysisImage image) {
+        deleteQuietly(image.path());
+    }
+
+    // 분석 작업 등록 (대기열이 가득 차면 실패 처리 후 503)
+    public void submit(UUID analysisId, AnalysisImage image) {
+        try {
+            analysisExecutor.execute(() -> run(analysisId, image));
+            log.info("분석 작업 등록 - analysisId: {}, 대기열: {}",
+                    analysisId, analysisExecutor.getThreadPoolExecutor().getQueue().size());
+        } catch (TaskRejectedException e) {
+            log.warn("분석 대기열 포화 - analysisId: {}", analysisId);
+            analysisHistoryRepository.updateStatus(analysisId, AnalysisStatus.FAILED, "분석 대기열 포화");
+            deleteQuietly(image.path());
+            throw new GeneralException(ErrorStatus.ANALYSIS_QUEUE_FULL);
+        }
+    }
+
+    // 백그라운드 스레드에서 파이프라인 실행
+    private void run(UUID analysisId, AnalysisImage image) {
+        try {
+            analysisHistoryRepository.updateStatus(analysisId, AnalysisStatus.ANALYZING, null);
+            analysisPipelineService.process(analysisId, image);
+        } catch (Exception e) {
+            // 예외 메시지(외부 API 응답, SQL 등)는 로그에만 남기고 클라이언트에 노출되는 실패 사유는 고정 문구로 저장
+            log.error("분석 실패 - analysisId: {}", analysisId, e);
+            analysisHistoryRepository.updateStatus(analysisId, AnalysisStatus.FAILED, failureReason(e));
+        } finally {
+            deleteQuietly(image.path());
+        }
+    }
+
+    // GeneralException은 에러 코드의 메시지, 그 외는 일반 문구
+    private static String failureReason(Exception e) {
+        if (e instanceof GeneralException generalException) {
+            return generalException.getErrorReason().getMessage();
+        }
+        return "분석 중 오류가 발생했습니다.";
+    }
+
+    // 서버 시작 시 미완료 작업 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverUnfinishedJobs() {
+        List<AnalysisHistory> unfinished = analysisHistoryRepository.findByStatusIn(UNFINISHED_STATUSES);
+        if (unfinished.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(staleAfterMinutes);
+        int resubmitted = 0;
+        int failed = 0;
+
+        for (AnalysisHistory history : unfinished) {
+            Optional<AnalysisImage> spooled = findSpooledImage(history.getId());
+            if (spooled.isPresent()) {
+                analysisHistoryRepository.updateStatus(history.getId(), AnalysisStatus.PENDING, null);
+                try {
+                    submit(history.getId(), spooled.get());
+                    resubmitted++;
+                } catch (GeneralException e) {
+                    failed++;
+                }
+            } else if (failIfStale(history.getId(), staleBefore)) {
+                failed++;
+            }
+        }
+
+        log.info("미완료 분석 작업 복구 - 재등록: {}개, 실패 처리: {}개", resubmitted, failed);
+    }
+
+    /**
+     * staleAfterMinutes 동안 상태가 바뀌지 않았고 spool 파일도 없는 미완료 작업 실패 처리
+     * (시작 시 복구에서 유예 시간이 지나지 않아 건너뛴 작업, 실행 중 인스턴스가 사라진 작업)
+     * spool 파일이 있는 작업은 이 인스턴스의 대기열에 있거나 재시작 시 복구되므로 건드리지 않음
+     */
+    @Scheduled(fixedDelayString = "${analysis.job.stale-sweep-interval-ms:60000}",
+            initialDelayString = "${analysis.job.stale-sweep-interval-ms:60000}")
+    public void failStaleJobs() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(staleAfterMinutes);
+        int failed = 0;
+        for (AnalysisHistory history : analysisHistoryRepository.findStale(UNFINISHED_STATUSES, staleBefore)) {
+            if (findSpooledImage(history.getId()).isEmpty() && failIfStale(history.getId(), staleBefore)) {
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            log.warn("중단된 분석 작업 실패 처리: {}개", failed);
+        }
+    }
+
+    private boolean failIfStale(UUID analysisId, LocalDateTime staleBefore) {
+        return analysisHistoryRepository.updateStatusIfStale(analysisId, UNFINISHED_STATUSES, staleBefore,
+                AnalysisStatus.FAILED, "작업이 중단되었습니다.") > 0;
+    }
+
+    // analysisId로 시작하는 spool 파일 검색
+    private Optional<AnalysisImage> findSpooledImage(UUID analysisId) {
+        Path dir = Paths.get(spoolDir);
+        if (!Files.isDirectory(dir)) {
+            return Optional.empty();
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, analysisId + "*")) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                return Optional.of(new AnalysisImage(path, fileName, guessContentType(fileName), Files.size(path),
+                        sha256Of(path)));
+            }
+        } catch (IOException e) {
+            log.warn("spool 파일 조회 실패 - analysisId: {}, {}", analysisId, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    // 파일명: {analysisId}{확장자} (경로 조작 방지를 위해 영숫자 확장자만 허용)
+    private Path spoolPath(UUID analysisId, String originalFileName) {
+        String extension = "";
+        if (originalFileName != null && originalFileName.contains(".")) {
+            extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        }
+        if (!extension.matches("\\.[A-Za-z0-9]{1,10}")) {
+            extension = "";
+        }
+        return Paths.get(spoolDir, analysisId + extension);
+    }
+
+    private String sha256Of(Path path) throws IOException {
+        MessageDigest digest = sha256Digest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String guessContentType(String fileName) {
+        return fileName.toLowerCase().endsWith(".png") ? "image/png" : "image/jpeg";
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("spool 파일 삭제 실패: {}", path);
+        }
+    }
+}
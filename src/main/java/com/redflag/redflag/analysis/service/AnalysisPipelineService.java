@@ -0,0 +1,253 @@
+package com.redflag.redflag.analysis.service;
+
+import com.redflag.redflag.analysis.domain.AnalysisStatus;
+import com.redflag.redflag.analysis.dto.*;
+import com.redflag.redflag.analysis.repository.*;
+import com.redflag.redflag.analysis.search.CaseCategoryResolver;
+import com.redflag.redflag.analysis.search.CategoryScope;
+import com.redflag.redflag.analysis.search.SimilarCase;
+import com.redflag.redflag.analysis.search.SimilarCaseSearchService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 분석 파이프라인 (백그라운드 스레드에서 실행)
+ * S3 업로드 + ML 분석 → 유사 사례 매칭 → 결과 저장
+ * 외부 호출 단계는 트랜잭션 밖에서 실행하고, DB 쓰기는 마지막에 AnalysisResultWriter의 짧은 트랜잭션으로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisPipelineService {
+
+    private final S3Service s3Service;
+    private final MlService mlService;
+    private final CaseHighlightService caseHighlightService;
+    private final AnalysisResultWriter analysisResultWriter;
+    private final AnalysisHistoryRepository analysisHistoryRepository;
+    private final ExampleCaseRepository exampleCaseRepository;
+    private final SimilarCaseSearchService similarCaseSearchService;
+    private final CaseCategoryResolver caseCategoryResolver;
+    private final ThreadPoolTaskExecutor analysisIoExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // S3 업로드 + ML 분석 단계 공통 제한 시간
+    @Value("${analysis.pipeline.stage-timeout-seconds:60}")
+    private long stageTimeoutSeconds;
+
+    // 대기열에 등록된 분석 작업 실행 (트랜잭션 없이 실행)
+    public void process(UUID analysisId, AnalysisImage image) {
+        log.info("분석 시작 - analysisId: {}", analysisId);
+
+        if (!analysisHistoryRepository.existsById(analysisId)) {
+            throw new IllegalStateException("분석 작업을 찾을 수 없습니다: " + analysisId);
+        }
+
+        // 1. S3 업로드와 ML 분석을 동시에 실행 (서로의 결과가 필요 없음)
+        UploadedAnalysis uploaded = uploadAndAnalyzeConcurrently(image);
+        String imageUrl = uploaded.imageUrl();
+        MlAnalysisResponse mlResult = uploaded.mlResult();
+
+        try {
+            // 2. 벡터 유사도 검색 및 키워드 하이라이트
+            analysisHistoryRepository.updateStatus(analysisId, AnalysisStatus.MATCHING, null);
+            List<MatchedCase> matchedCases = List.of();
+            if (mlResult.getEmbedding() != null && mlResult.getEmbedding().length > 0) {
+                matchedCases = searchSimilarCases(mlResult.getEmbedding(), mlResult.getPsychologicalPatterns());
+            } else {
+                log.warn("ML 응답에 임베딩이 없어 유사 사례 검색을 건너뜁니다.");
+            }
+
+            // 3. 결과 저장 (짧은 쓰기 트랜잭션, 커넥션 점유 시간 기록)
+            List<MatchedCase> toSave = matchedCases;
+            Timer.builder("analysis.db.connection.hold")
+                    .description("분석 결과 저장 트랜잭션의 DB 커넥션 점유 시간")
+                    .tag("phase", "write")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(() -> analysisResultWriter.save(analysisId, imageUrl, image.sha256(), mlResult, toSave));
+
+        } catch (RuntimeException e) {
+            // 결과 저장까지 실패하면 업로드된 이미지는 더 이상 참조되지 않음
+            s3Service.delete(imageUrl);
+            throw e;
+        }
+
+        log.info("분석 완료 - analysisId: {}", analysisId);
+    }
+
+    // S3 업로드와 ML 분석을 공통 제한 시간 내에 동시 실행
+    // 한쪽이 실패하거나 시간 초과 시 ML 분석 스레드는 인터럽트하고, 업로드는 끝나는 시점에 S3 객체를 삭제
+    // (소켓 읽기는 인터럽트에 반응하지 않으므로 ML 클라이언트 읽기 타임아웃도 이 제한 시간 이하로 설정됨)
+    private UploadedAnalysis uploadAndAnalyzeConcurrently(AnalysisImage image) {
+        log.info("S3 업로드 / ML 분석 동시 시작");
+        CompletableFuture<String> uploadFuture = new CompletableFuture<>();
+        CompletableFuture<MlAnalysisResponse> mlFuture = new CompletableFuture<>();
+        submit(uploadFuture, () -> s3Service.upload(image));
+        Future<?> mlTask = submit(mlFuture, () -> mlService.analyze(image));
+
+        // 둘 중 하나라도 실패하면 즉시 종료
+        CompletableFuture<Void> failFast = new CompletableFuture<>();
+        uploadFuture.whenComplete((url, e) -> { if (e != null) failFast.completeExceptionally(e); });
+        mlFuture.whenComplete((result, e) -> { if (e != null) failFast.completeExceptionally(e); });
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(uploadFuture, mlFuture), failFast)
+                    .get(stageTimeoutSeconds, TimeUnit.SECONDS);
+
+            MlAnalysisResponse mlResult = mlFuture.join();
+            log.info("S3 업로드 / ML 분석 완료 - riskScore: {}", mlResult.getRiskScore());
+            return new UploadedAnalysis(uploadFuture.join(), mlResult);
+
+        } catch (Exception e) {
+            mlTask.cancel(true);
+            // 업로드는 중단하지 않고, 업로드가 이미 끝났든 나중에 끝나든 성공한 경우 객체를 삭제
+            uploadFuture.whenComplete((url, uploadError) -> {
+                if (url != null) {
+                    s3Service.delete(url);
+                }
+            });
+
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (e instanceof TimeoutException) {
+                throw new RuntimeException("S3 업로드 / ML 분석 시간 초과 (" + stageTimeoutSeconds + "초)", e);
+            }
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            throw cause instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new RuntimeException("S3 업로드 / ML 분석 실패", cause);
+        }
+    }
+
+    // 작업 결과를 result로 전달 (CompletableFuture.supplyAsync와 달리 반환된 Future.cancel(true)가 실행 중인 스레드를 인터럽트)
+    private <T> Future<?> submit(CompletableFuture<T> result, Supplier<T> task) {
+        return analysisIoExecutor.submit(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private record UploadedAnalysis(String imageUrl, MlAnalysisResponse mlResult) {
+    }
+
+    // 벡터 유사도 검색 및 키워드 하이라이트 (DB 저장은 하지 않음)
+    private List<MatchedCase> searchSimilarCases(float[] embedding,
+                                                 List<MlAnalysisResponse.PsychologicalPattern> patterns) {
+        log.info("유사 사례 검색 시작 - embedding 차원: {}", embedding.length);
+        
+        List<MlAnalysisResponse.PsychologicalPattern> safePatterns = patterns == null ? List.of() : patterns;
+        
+        // 1. 유사한 과거 사례 검색 (상위 3개, 코사인 거리 포함)
+        // 점수가 가장 높은 패턴 유형에 대응하는 category가 있으면 해당 category 우선
+        String dominantPatternType = safePatterns.stream()
+                .filter(p -> p.getPatternType() != null && p.getPatternScore() != null)
+                .max(Comparator.comparingInt(MlAnalysisResponse.PsychologicalPattern::getPatternScore))
+                .map(MlAnalysisResponse.PsychologicalPattern::getPatternType)
+                .orElse(null);
+        CategoryScope categoryScope = caseCategoryResolver.resolve(dominantPatternType);
+        List<SimilarCase> results = similarCaseSearchService.search(embedding, 3, categoryScope);
+        
+        if (results.isEmpty()) {
+            log.warn("유사 사례를 찾지 못했습니다. ExampleCase 테이블에 데이터가 있는지 확인하세요.");
+            return List.of();
+        }
+        
+        log.info("유사 사례 검색 완료: {}개 발견 (category 조건: {})", results.size(), categoryScope);
+        
+        // highlightTextUser: ML 패턴의 keyword 사용
+        String highlightUser = safePatterns.stream()
+                .map(MlAnalysisResponse.PsychologicalPattern::getKeyword)
+                .filter(k -> k != null && !k.isEmpty())
+                .collect(Collectors.joining(", "));
+        
+        // detectedSentences 수집 (Gemini에 추가 컨텍스트 제공)
+        List<String> detectedSentences = safePatterns.stream()
+                .map(MlAnalysisResponse.PsychologicalPattern::getDetectedSentence)
+                .filter(s -> s != null && !s.isEmpty())
+                .toList();
+        
+        // 3. 검색된 사례들의 하이라이트 추출 (사례별 Gemini 호출을 병렬 실행)
+        Map<UUID, String> caseCategories = new HashMap<>();
+        Map<UUID, String> caseContents = loadCaseContents(results, caseCategories);
+        Map<UUID, String> highlights = caseHighlightService.extractHighlights(
+                caseContents,
+                highlightUser,
+                detectedSentences);
+        
+        List<MatchedCase> matches = new ArrayList<>();
+        int rank = 1;
+        
+        for (SimilarCase result : results) {
+            UUID exampleId = result.exampleCaseId();
+            if (!caseContents.containsKey(exampleId)) {
+                continue;
+            }
+            double distance = result.distance();
+            double similarity = 1.0 - distance;
+            
+            log.debug("매칭된 사례: ID={}, 거리={}, 유사도={}", 
+                    exampleId, 
+                    String.format("%.4f", distance),
+                    String.format("%.2f%%", similarity * 100));
+            
+            String highlightCase = highlights.get(exampleId);
+            log.info("하이라이트 추출 결과: {}", highlightCase);
+            
+            matches.add(new MatchedCase(
+                    exampleId,
+                    caseCategories.get(exampleId),
+                    caseContents.get(exampleId),
+                    BigDecimal.valueOf(similarity),
+                    rank++,
+                    highlightUser,
+                    highlightCase));
+        }
+        
+        return matches;
+    }
+
+    // 검색 순서대로 사례 본문 조회 (PK 조회), category는 categories에 채움 (결과 스냅샷용)
+    private Map<UUID, String> loadCaseContents(List<SimilarCase> results, Map<UUID, String> categories) {
+        Map<UUID, String> found = new HashMap<>();
+        List<UUID> ids = results.stream().map(SimilarCase::exampleCaseId).toList();
+        for (Object[] row : exampleCaseRepository.findContentsByIdIn(ids)) {
+            found.put((UUID) row[0], (String) row[1]);
+            categories.put((UUID) row[0], (String) row[2]);
+        }
+
+        // 검색 이후 삭제된 사례는 제외
+        Map<UUID, String> contents = new LinkedHashMap<>();
+        ids.stream().filter(found::containsKey).forEach(id -> contents.put(id, found.get(id)));
+        return contents;
+    }
+}
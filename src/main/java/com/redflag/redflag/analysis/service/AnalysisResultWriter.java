@@ -0,0 +1,227 @@
+package com.redflag.redflag.analysis.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redflag.redflag.analysis.domain.AnalysisDetail;
+import com.redflag.redflag.analysis.domain.AnalysisHistory;
+import com.redflag.redflag.analysis.domain.AnalysisSnapshot;
+import com.redflag.redflag.analysis.domain.ExampleCase;
+import com.redflag.redflag.analysis.domain.SpecificMatch;
+import com.redflag.redflag.analysis.dto.AnalysisDetailResponse;
+import com.redflag.redflag.analysis.dto.MatchedCase;
+import com.redflag.redflag.analysis.dto.MlAnalysisResponse;
+import com.redflag.redflag.analysis.dto.PsychologicalPatternDto;
+import com.redflag.redflag.analysis.dto.SimilarCaseDto;
+import com.redflag.redflag.analysis.repository.AnalysisDetailRepository;
+import com.redflag.redflag.analysis.repository.AnalysisHistoryRepository;
+import com.redflag.redflag.analysis.repository.AnalysisSnapshotRepository;
+import com.redflag.redflag.analysis.repository.SpecificMatchRepository;
+import com.redflag.redflag.dashboard.service.DetectionCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 분석 결과 저장 (파이프라인의 쓰기 단계)
+ * 외부 호출이 모두 끝난 뒤 짧은 트랜잭션 하나로 AnalysisHistory, AnalysisDetail, SpecificMatch와
+ * 상세 조회용 결과 스냅샷(AnalysisSnapshot)을 저장하고 대시보드 탐지 건수 집계를 증가
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisResultWriter {
+
+    private final AnalysisHistoryRepository analysisHistoryRepository;
+    private final AnalysisDetailRepository analysisDetailRepository;
+    private final SpecificMatchRepository specificMatchRepository;
+    private final AnalysisSnapshotRepository analysisSnapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final DetectionCountService detectionCountService;
+
+    @Transactional
+    public void save(UUID analysisId, String imageUrl, String imageHash,
+                     MlAnalysisResponse mlResult, List<MatchedCase> matchedCases) {
+        AnalysisHistory analysisHistory = analysisHistoryRepository.findById(analysisId)
+                .orElseThrow(() -> new IllegalStateException("분석 작업을 찾을 수 없습니다: " + analysisId));
+
+        // 1. AnalysisHistory 결과 반영
+        analysisHistory.complete(
+                imageUrl,
+                imageHash,
+                mlResult.getOcrText(),
+                mlResult.getRiskScore(),
+                mlResult.getRiskLevel(),
+                mlResult.getDescription());
+
+        // 2. AnalysisDetail 저장 (심리 조작 패턴들)
+        saveAnalysisDetails(analysisHistory, mlResult.getPsychologicalPatterns());
+
+        // 3. SpecificMatch 저장 (유사 사례들)
+        saveSpecificMatches(analysisHistory, matchedCases);
+
+        // 4. 상세 조회용 스냅샷 저장
+        List<MlAnalysisResponse.PsychologicalPattern> patterns = mlResult.getPsychologicalPatterns() == null
+                ? List.of()
+                : mlResult.getPsychologicalPatterns();
+        saveSnapshot(analysisHistory,
+                patterns.stream()
+                        .map(pattern -> PsychologicalPatternDto.builder()
+                                .patternType(pattern.getPatternType())
+                                .detectedSentence(pattern.getDetectedSentence())
+                                .keyword(pattern.getKeyword())
+                                .patternScore(pattern.getPatternScore())
+                                .build())
+                        .toList(),
+                matchedCases.stream()
+                        .map(matched -> SimilarCaseDto.builder()
+                                .matchedRank(matched.matchedRank())
+                                .caseId(matched.exampleCaseId().toString())
+                                .category(matched.category())
+                                .similarityScore(matched.similarityScore())
+                                .content(matched.caseContent())
+                                .highlightUser(matched.highlightTextUser())
+                                .highlightCase(matched.highlightTextCase())
+                                .build())
+                        .toList());
+
+        // 5. 대시보드 탐지 건수 집계
+        detectionCountService.record(analysisHistory.getCreatedAt(), analysisHistory.getRiskScore());
+    }
+
+    /**
+     * 동일 이미지로 완료된 이전 분석 결과를 새 분석에 복사
+     * S3 객체, OCR 텍스트, 점수, 패턴, 유사 사례 매칭을 그대로 재사용 (요청 사용자의 AnalysisHistory는 별도 유지)
+     */
+    @Transactional
+    public void copyFrom(UUID analysisId, UUID sourceAnalysisId) {
+        AnalysisHistory target = analysisHistoryRepository.findById(analysisId)
+                .orElseThrow(() -> new IllegalStateException("분석 작업을 찾을 수 없습니다: " + analysisId));
+        AnalysisHistory source = analysisHistoryRepository.findById(sourceAnalysisId)
+                .orElseThrow(() -> new IllegalStateException("원본 분석을 찾을 수 없습니다: " + sourceAnalysisId));
+
+        target.complete(
+                source.getImageUrl(),
+                source.getImageHash(),
+                source.getRawText(),
+                source.getRiskScore(),
+                source.getRiskLevel(),
+                source.getDescription());
+
+        List<AnalysisDetail> details = analysisDetailRepository.findByAnalysisHistory(source).stream()
+                .map(detail -> AnalysisDetail.builder()
+                        .analysisHistory(target)
+                        .patternType(detail.getPatternType())
+                        .patternScore(detail.getPatternScore())
+                        .detectedSentence(detail.getDetectedSentence())
+                        .keyword(detail.getKeyword())
+                        .build())
+                .toList();
+        analysisDetailRepository.saveAll(details);
+
+        // 사례 본문/category까지 한 번에 조회 (스냅샷에도 사용)
+        List<SimilarCaseDto> similarCases = specificMatchRepository.findMatchDetailsWithoutEmbedding(sourceAnalysisId)
+                .stream()
+                .map(SimilarCaseDto::fromMatchRow)
+                .toList();
+        List<SpecificMatch> matches = similarCases.stream()
+                .map(similar -> SpecificMatch.builder()
+                        .analysisHistory(target)
+                        .exampleCase(ExampleCase.builder().id(UUID.fromString(similar.getCaseId())).build())
+                        .similarityScore(similar.getSimilarityScore())
+                        .matchedRank(similar.getMatchedRank())
+                        .highlightTextUser(similar.getHighlightUser())
+                        .highlightTextCase(similar.getHighlightCase())
+                        .build())
+                .toList();
+        specificMatchRepository.saveAll(matches);
+
+        saveSnapshot(target,
+                details.stream()
+                        .map(detail -> PsychologicalPatternDto.builder()
+                                .patternType(detail.getPatternType())
+                                .detectedSentence(detail.getDetectedSentence())
+                                .keyword(detail.getKeyword())
+                                .patternScore(detail.getPatternScore())
+                                .build())
+                        .toList(),
+                similarCases);
+        detectionCountService.record(target.getCreatedAt(), target.getRiskScore());
+
+        log.info("동일 이미지 분석 결과 재사용 - analysisId: {}, 원본: {}, 패턴: {}개, 유사 사례: {}개",
+                analysisId, sourceAnalysisId, details.size(), matches.size());
+    }
+
+    // AnalysisDetail 저장 (심리 조작 패턴들)
+    private void saveAnalysisDetails(AnalysisHistory analysisHistory,
+                                     List<MlAnalysisResponse.PsychologicalPattern> patterns) {
+        if (patterns == null || patterns.isEmpty()) {
+            log.warn("심리 조작 패턴이 없습니다.");
+            return;
+        }
+
+        List<AnalysisDetail> details = patterns.stream()
+                .map(pattern -> AnalysisDetail.builder()
+                        .analysisHistory(analysisHistory)
+                        .patternType(pattern.getPatternType())
+                        .patternScore(pattern.getPatternScore())
+                        .detectedSentence(pattern.getDetectedSentence())
+                        .keyword(pattern.getKeyword())
+                        .build())
+                .toList();
+
+        analysisDetailRepository.saveAll(details);
+        log.info("AnalysisDetail 저장 완료: {}개", details.size());
+    }
+
+    // SpecificMatch 저장 (유사 사례들)
+    private void saveSpecificMatches(AnalysisHistory analysisHistory, List<MatchedCase> matchedCases) {
+        if (matchedCases.isEmpty()) {
+            return;
+        }
+
+        List<SpecificMatch> matches = matchedCases.stream()
+                .map(matched -> SpecificMatch.builder()
+                        .analysisHistory(analysisHistory)
+                        .exampleCase(ExampleCase.builder().id(matched.exampleCaseId()).build())
+                        .similarityScore(matched.similarityScore())
+                        .matchedRank(matched.matchedRank())
+                        .highlightTextUser(matched.highlightTextUser())
+                        .highlightTextCase(matched.highlightTextCase())
+                        .build())
+                .toList();
+
+        specificMatchRepository.saveAll(matches);
+        log.info("유사 사례 매칭 완료: {}개 저장됨", matches.size());
+    }
+
+    // 상세 조회 응답 전체를 JSON으로 저장 (이후 변경되지 않음)
+    private void saveSnapshot(AnalysisHistory analysisHistory,
+                              List<PsychologicalPatternDto> psychologicalPatterns,
+                              List<SimilarCaseDto> similarCases) {
+        AnalysisDetailResponse response = AnalysisDetailResponse.builder()
+                .analysisId(analysisHistory.getId().toString())
+                .imageUrl(analysisHistory.getImageUrl())
+                .rawText(analysisHistory.getRawText())
+                .riskScore(analysisHistory.getRiskScore())
+                .riskLevel(analysisHistory.getRiskLevel())
+                .description(analysisHistory.getDescription())
+                .psychologicalPatterns(psychologicalPatterns)
+                .similarCases(similarCases)
+                .createdAt(analysisHistory.getCreatedAt())
+                .build();
+
+        try {
+            analysisSnapshotRepository.save(AnalysisSnapshot.builder()
+                    .analysisId(analysisHistory.getId())
+                    .userId(analysisHistory.getUser().getId())
+                    .result(objectMapper.writeValueAsString(response))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("분석 결과 스냅샷 직렬화 실패: " + analysisHistory.getId(), e);
+        }
+    }
+}
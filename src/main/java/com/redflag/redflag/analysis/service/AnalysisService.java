@@ -1,17 +1,27 @@
 package com.redflag.redflag.analysis.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.redflag.redflag.analysis.domain.*;
 import com.redflag.redflag.analysis.dto.*;
 import com.redflag.redflag.analysis.repository.*;
+import com.redflag.redflag.global.exception.GeneralException;
+import com.redflag.redflag.global.exception.code.status.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -20,19 +30,26 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AnalysisService {
     
-    private final S3Service s3Service;
-    private final MlService mlService;
-    private final GeminiService geminiService;
+    // 동일 이미지(SHA-256) 분석 결과 재사용 여부
+    @Value("${analysis.dedup.enabled:true}")
+    private boolean dedupEnabled;
+    
+    // 분석 이력 목록 한 페이지 최대 크기
+    @Value("${analysis.history.max-page-size:50}")
+    private int maxHistoryPageSize;
+    
+    private final AnalysisJobService analysisJobService;
+    private final AnalysisResultWriter analysisResultWriter;
     private final UserRepository userRepository;
     private final AnalysisHistoryRepository analysisHistoryRepository;
     private final AnalysisDetailRepository analysisDetailRepository;
-    private final ExampleCaseRepository exampleCaseRepository;
     private final SpecificMatchRepository specificMatchRepository;
+    private final AnalysisSnapshotRepository analysisSnapshotRepository;
+    private final ObjectMapper objectMapper;
     
-    // 이미지 업로드 및 분석 전체 프로세스
-    @Transactional
+    // 이미지 업로드 및 분석 작업 등록 (분석은 백그라운드에서 진행)
     public AnalysisUploadResponse uploadAndAnalyze(String userUuidStr, MultipartFile image) {
-        log.info("분석 시작 - 사용자: {}", userUuidStr);
+        log.info("분석 요청 - 사용자: {}", userUuidStr);
         
         // 0. 이미지 파일 검증
         validateImage(image);
@@ -42,35 +59,48 @@ public class AnalysisService {
         User user = userRepository.findById(userUuid)
                 .orElseGet(() -> createNewUser(userUuid));
         
-        // 2. S3에 이미지 업로드
-        log.info("S3 업로드 시작");
-        String imageUrl = s3Service.upload(image);
-        log.info("S3 업로드 완료: {}", imageUrl);
-        
-        // 3. ML 서버에 분석 요청
-        log.info("ML 분석 요청 시작");
-        MlAnalysisResponse mlResult = mlService.analyze(image);
-        log.info("ML 분석 완료 - riskScore: {}", mlResult.getRiskScore());
-        
-        // 4. AnalysisHistory 저장
-        AnalysisHistory analysisHistory = saveAnalysisHistory(user, imageUrl, mlResult);
+        // 2. 분석 작업 생성 (PENDING)
+        AnalysisHistory analysisHistory = analysisHistoryRepository.save(AnalysisHistory.builder()
+                .user(user)
+                .status(AnalysisStatus.PENDING)
+                .statusUpdatedAt(LocalDateTime.now())
+                .build());
+        UUID analysisId = analysisHistory.getId();
         
-        // 5. AnalysisDetail 저장 (심리 조작 패턴들)
-        saveAnalysisDetails(analysisHistory, mlResult.getPsychologicalPatterns());
+        // 3. 이미지 임시 저장 (SHA-256 계산)
+        AnalysisImage spooled;
+        try {
+            spooled = analysisJobService.spool(analysisId, image);
+        } catch (GeneralException e) {
+            analysisHistoryRepository.updateStatus(analysisId, AnalysisStatus.FAILED, "이미지 임시 저장 실패");
+            throw e;
+        }
         
-        // 6. 벡터 유사도 검색 및 SpecificMatch 저장
-        if (mlResult.getEmbedding() != null && mlResult.getEmbedding().length > 0) {
-            searchAndSaveSimilarCases(analysisHistory, mlResult.getEmbedding());
-        } else {
-            log.warn("ML 응답에 임베딩이 없어 유사 사례 검색을 건너뜁니다.");
+        // 4. 동일 이미지로 완료된 분석이 있으면 결과 재사용 (S3, ML, Gemini 호출 생략)
+        if (dedupEnabled) {
+            Optional<AnalysisHistory> duplicate = analysisHistoryRepository
+                    .findFirstByImageHashAndStatusOrderByCreatedAtDesc(spooled.sha256(), AnalysisStatus.COMPLETED);
+            if (duplicate.isPresent()) {
+                analysisResultWriter.copyFrom(analysisId, duplicate.get().getId());
+                analysisJobService.discard(spooled);
+                
+                return AnalysisUploadResponse.builder()
+                        .analysisId(analysisId)
+                        .imageUrl(duplicate.get().getImageUrl())
+                        .status(AnalysisStatus.COMPLETED)
+                        .build();
+            }
         }
         
-        log.info("분석 완료 - analysisId: {}", analysisHistory.getId());
+        // 5. 대기열 등록
+        analysisJobService.submit(analysisId, spooled);
         
-        // 7. 응답 생성
+        log.info("분석 작업 등록 완료 - analysisId: {}", analysisId);
+        
+        // 6. 응답 생성 (진행 상황은 상태 조회 API로 확인)
         return AnalysisUploadResponse.builder()
-                .analysisId(analysisHistory.getId())  // UUID로 직접 반환
-                .imageUrl(imageUrl)
+                .analysisId(analysisId)
+                .status(AnalysisStatus.PENDING)
                 .build();
     }
     
@@ -107,129 +137,7 @@ public class AnalysisService {
         return userRepository.save(newUser);
     }
     
-    // AnalysisHistory 저장
-    private AnalysisHistory saveAnalysisHistory(User user, String imageUrl, MlAnalysisResponse mlResult) {
-        AnalysisHistory analysisHistory = AnalysisHistory.builder()
-                .user(user)
-                .imageUrl(imageUrl)
-                .rawText(mlResult.getOcrText())
-                .riskScore(mlResult.getRiskScore())
-                .riskLevel(mlResult.getRiskLevel())
-                .description(mlResult.getDescription())
-                .build();
-        
-        return analysisHistoryRepository.save(analysisHistory);
-    }
-    
-    // AnalysisDetail 저장 (심리 조작 패턴들)
-    private void saveAnalysisDetails(AnalysisHistory analysisHistory, 
-                                     List<MlAnalysisResponse.PsychologicalPattern> patterns) {
-        if (patterns == null || patterns.isEmpty()) {
-            log.warn("심리 조작 패턴이 없습니다.");
-            return;
-        }
-        
-        List<AnalysisDetail> details = patterns.stream()
-                .map(pattern -> AnalysisDetail.builder()
-                        .analysisHistory(analysisHistory)
-                        .patternType(pattern.getPatternType())
-                        .patternScore(pattern.getPatternScore())
-                        .detectedSentence(pattern.getDetectedSentence())
-                        .keyword(pattern.getKeyword())
-                        .build())
-                .toList();
-        
-        analysisDetailRepository.saveAll(details);
-        log.info("AnalysisDetail 저장 완료: {}개", details.size());
-    }
-    
-    // 벡터 유사도 검색 및 SpecificMatch 저장
-    private void searchAndSaveSimilarCases(AnalysisHistory analysisHistory, float[] embedding) {
-        log.info("유사 사례 검색 시작 - embedding 차원: {}", embedding.length);
-        
-        // 1. float[] → pgvector 문자열 형식으로 변환
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < embedding.length; i++) {
-            sb.append(embedding[i]);
-            if (i < embedding.length - 1) {
-                sb.append(",");
-            }
-        }
-        sb.append("]");
-        String embeddingStr = sb.toString();
-        
-        log.debug("변환된 임베딩 문자열: {}...", embeddingStr.substring(0, Math.min(50, embeddingStr.length())));
-        
-        // 2. pgvector로 유사한 과거 사례 검색 (상위 3개, 거리값 포함)
-        List<Object[]> results = exampleCaseRepository.findSimilarCasesWithDistance(embeddingStr, 3);
-        
-        if (results.isEmpty()) {
-            log.warn("유사 사례를 찾지 못했습니다. ExampleCase 테이블에 데이터가 있는지 확인하세요.");
-            return;
-        }
-        
-        log.info("유사 사례 검색 완료: {}개 발견", results.size());
-        
-        // AnalysisDetail 직접 조회 (LAZY 로딩 문제 해결)
-        List<AnalysisDetail> details = analysisDetailRepository.findByAnalysisHistory(analysisHistory);
-        log.debug("AnalysisDetail 조회 완료: {}개", details.size());
-        
-        // 3. 검색된 사례들을 SpecificMatch로 저장
-        List<SpecificMatch> matches = new ArrayList<>();
-        int rank = 1;
-        
-        for (Object[] row : results) {
-            UUID exampleId = (UUID) row[0];
-            String caseContent = (String) row[1];
-            Double distance = (Double) row[2];
-            Double similarity = 1.0 - distance;
-            
-            log.debug("매칭된 사례: ID={}, 거리={}, 유사도={}", 
-                    exampleId, 
-                    String.format("%.4f", distance),
-                    String.format("%.2f%%", similarity * 100));
-            
-            // highlightTextUser: AnalysisDetail의 keyword 사용
-            String highlightUser = details.stream()
-                    .map(AnalysisDetail::getKeyword)
-                    .filter(k -> k != null && !k.isEmpty())
-                    .collect(Collectors.joining(", "));
-
-            // detectedSentences 수집 (Gemini에 추가 컨텍스트 제공)
-            List<String> detectedSentences = details.stream()
-                    .map(AnalysisDetail::getDetectedSentence)
-                    .filter(s -> s != null && !s.isEmpty())
-                    .toList();
-
-            // highlightTextCase: case_content에서 키워드 찾기
-            String highlightCase = geminiService.extractSimilarKeywords(
-                    caseContent,
-                    highlightUser,
-                    detectedSentences);
-            
-            log.info("Gemini 추출 결과: {}", highlightCase);
-            
-            ExampleCase exampleCaseRef = ExampleCase.builder()
-                    .id(exampleId)
-                    .build();
-            
-            SpecificMatch match = SpecificMatch.builder()
-                    .analysisHistory(analysisHistory)
-                    .exampleCase(exampleCaseRef)
-                    .similarityScore(BigDecimal.valueOf(similarity))
-                    .matchedRank(rank++)
-                    .highlightTextUser(highlightUser)
-                    .highlightTextCase(highlightCase)
-                    .build();
-            
-            matches.add(match);
-        }
-        
-        specificMatchRepository.saveAll(matches);
-        log.info("유사 사례 매칭 완료: {}개 저장됨", matches.size());
-    }
-    
-    // 분석 결과 상세 조회
+    // 분석 결과 상세 조회 (스냅샷 PK 조회 한 번, 스냅샷이 없는 이전 데이터는 테이블별 조회)
     @Transactional(readOnly = true)
     public AnalysisDetailResponse getAnalysisDetail(String userUuidStr, String analysisIdStr) {
         log.info("분석 결과 상세 조회 - 사용자: {}, analysisId: {}", userUuidStr, analysisIdStr);
@@ -237,6 +145,23 @@ public class AnalysisService {
         UUID userUuid = UUID.fromString(userUuidStr);
         UUID analysisId = UUID.fromString(analysisIdStr);
         
+        Optional<AnalysisSnapshot> snapshot = analysisSnapshotRepository.findById(analysisId);
+        if (snapshot.isPresent()) {
+            if (!snapshot.get().getUserId().equals(userUuid)) {
+                throw new IllegalArgumentException("해당 분석 결과에 접근 권한이 없습니다.");
+            }
+            try {
+                return objectMapper.readValue(snapshot.get().getResult(), AnalysisDetailResponse.class);
+            } catch (JsonProcessingException e) {
+                log.warn("분석 결과 스냅샷 역직렬화 실패, 테이블에서 조회 - analysisId: {}", analysisId, e);
+            }
+        }
+        
+        return loadAnalysisDetail(userUuid, analysisId);
+    }
+    
+    // 스냅샷 도입 전 분석 결과 조회 (AnalysisHistory, AnalysisDetail, SpecificMatch 각각 조회)
+    private AnalysisDetailResponse loadAnalysisDetail(UUID userUuid, UUID analysisId) {
         // 1. AnalysisHistory 조회 (사용자 검증 포함)
         AnalysisHistory analysisHistory = analysisHistoryRepository.findById(analysisId)
                 .orElseThrow(() -> new IllegalArgumentException("분석 결과를 찾을 수 없습니다."));
@@ -246,6 +171,11 @@ public class AnalysisService {
             throw new IllegalArgumentException("해당 분석 결과에 접근 권한이 없습니다.");
         }
         
+        // 진행 중이거나 실패한 작업은 상태 조회 API로 확인
+        if (!analysisHistory.isCompleted()) {
+            throw new GeneralException(ErrorStatus.ANALYSIS_NOT_COMPLETED);
+        }
+        
         // 3. AnalysisDetail 조회 (심리 조작 패턴들)
         List<AnalysisDetail> details = analysisDetailRepository.findByAnalysisHistory(analysisHistory);
         List<PsychologicalPatternDto> psychologicalPatterns = details.stream()
@@ -260,15 +190,7 @@ public class AnalysisService {
         // 4. SpecificMatch 조회 (유사 사례들) - embedding 제외한 필드만 조회
         List<Object[]> matchResults = specificMatchRepository.findMatchDetailsWithoutEmbedding(analysisId);
         List<SimilarCaseDto> similarCases = matchResults.stream()
-                .map(row -> SimilarCaseDto.builder()
-                        .matchedRank((Integer) row[0])
-                        .caseId(((UUID) row[1]).toString())
-                        .category((String) row[2])
-                        .content((String) row[3])
-                        .similarityScore((BigDecimal) row[4])
-                        .highlightUser((String) row[5])
-                        .highlightCase((String) row[6])
-                        .build())
+                .map(SimilarCaseDto::fromMatchRow)
                 .collect(Collectors.toList());
         
         // 5. 응답 생성
@@ -284,4 +206,96 @@ public class AnalysisService {
                 .createdAt(analysisHistory.getCreatedAt())
                 .build();
     }
+    
+    // 분석 작업 상태 조회 (완료 시 결과 포함)
+    @Transactional(readOnly = true)
+    public AnalysisStatusResponse getAnalysisStatus(String userUuidStr, String analysisIdStr) {
+        UUID userUuid = UUID.fromString(userUuidStr);
+        UUID analysisId = UUID.fromString(analysisIdStr);
+        
+        AnalysisHistory analysisHistory = analysisHistoryRepository.findById(analysisId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ANALYSIS_NOT_FOUND));
+        
+        if (!analysisHistory.getUser().getId().equals(userUuid)) {
+            throw new GeneralException(ErrorStatus.ANALYSIS_FORBIDDEN);
+        }
+        
+        AnalysisStatus status = analysisHistory.isCompleted()
+                ? AnalysisStatus.COMPLETED
+                : analysisHistory.getStatus();
+        
+        return AnalysisStatusResponse.builder()
+                .analysisId(analysisId.toString())
+                .status(status)
+                .failureReason(analysisHistory.getFailureReason())
+                .statusUpdatedAt(analysisHistory.getStatusUpdatedAt())
+                .result(status == AnalysisStatus.COMPLETED ? getAnalysisDetail(userUuidStr, analysisIdStr) : null)
+                .build();
+    }
+    
+    /**
+     * 사용자 분석 이력 목록 (최신순, keyset 페이지네이션)
+     * 커서는 마지막 항목의 (createdAt, id)를 인코딩한 값, (user_id, created_at, id) 인덱스만으로 조회
+     */
+    @Transactional(readOnly = true)
+    public AnalysisHistoryListResponse getAnalysisHistories(String userUuidStr, String cursor, int size) {
+        UUID userUuid = UUID.fromString(userUuidStr);
+        int pageSize = Math.max(1, Math.min(size, maxHistoryPageSize));
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        
+        List<AnalysisSummaryRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = analysisHistoryRepository.findSummariesByUserId(userUuid, limit);
+        } else {
+            HistoryCursor after = HistoryCursor.decode(cursor);
+            rows = analysisHistoryRepository.findSummariesByUserIdAfter(userUuid, after.createdAt(), after.id(), limit);
+        }
+        
+        boolean hasNext = rows.size() > pageSize;
+        List<AnalysisSummaryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        List<AnalysisSummaryDto> analyses = new ArrayList<>(page.size());
+        for (AnalysisSummaryRow row : page) {
+            analyses.add(AnalysisSummaryDto.builder()
+                    .analysisId(row.id().toString())
+                    // 상태가 없는 이전 데이터는 완료로 간주
+                    .status(row.status() == null ? AnalysisStatus.COMPLETED : row.status())
+                    .riskScore(row.riskScore())
+                    .riskLevel(row.riskLevel())
+                    .imageUrl(row.imageUrl())
+                    .createdAt(row.createdAt())
+                    .build());
+        }
+        
+        AnalysisSummaryRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return AnalysisHistoryListResponse.builder()
+                .analyses(analyses)
+                .nextCursor(hasNext ? new HistoryCursor(last.createdAt(), last.id()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+    
+    // 목록 커서 ("createdAt|id"를 URL-safe Base64로 인코딩)
+    private record HistoryCursor(LocalDateTime createdAt, UUID id) {
+        
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        static HistoryCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                if (separator < 0) {
+                    throw new GeneralException(ErrorStatus.ANALYSIS_INVALID_CURSOR);
+                }
+                return new HistoryCursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        UUID.fromString(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new GeneralException(ErrorStatus.ANALYSIS_INVALID_CURSOR);
+            }
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package com.redflag.redflag.analysis.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.redflag.redflag.analysis.search.ExampleCaseChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Gemini 하이라이트 결과 캐시
+ * key: (사례 ID, 정규화된 사용자 키워드 집합) → 같은 스캠 템플릿이 반복되면 Gemini 호출 없이 재사용
+ * 메트릭: cache.gets{cache=gemini.highlight, result=hit|miss}, cache.evictions 등
+ */
+@Component
+public class CaseHighlightCache {
+
+    private final Cache<Key, String> cache;
+
+    public CaseHighlightCache(MeterRegistry meterRegistry,
+                              @Value("${gemini.highlight.cache.max-size:10000}") long maxSize,
+                              @Value("${gemini.highlight.cache.ttl-minutes:1440}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gemini.highlight");
+    }
+
+    public String get(UUID caseId, String normalizedKeywords) {
+        return cache.getIfPresent(new Key(caseId, normalizedKeywords));
+    }
+
+    public void put(UUID caseId, String normalizedKeywords, String highlight) {
+        cache.put(new Key(caseId, normalizedKeywords), highlight);
+    }
+
+    public void putAll(Map<UUID, String> highlights, String normalizedKeywords) {
+        highlights.forEach((caseId, highlight) -> put(caseId, normalizedKeywords, highlight));
+    }
+
+    // 사례가 수정/삭제되면 해당 사례 본문으로 만든 하이라이트는 무효 (커밋 후 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExampleCaseChanged(ExampleCaseChangedEvent event) {
+        invalidateCase(event.exampleCaseId());
+    }
+
+    // 해당 사례의 캐시 제거
+    public void invalidateCase(UUID caseId) {
+        cache.asMap().keySet().removeIf(key -> key.caseId().equals(caseId));
+    }
+
+    /**
+     * 사용자 키워드 정규화: 쉼표 분리 → 공백 제거/소문자 → 중복 제거 → 정렬
+     * ex) "포인트, 사이트,포인트" → "사이트|포인트"
+     */
+    public static String normalizeKeywords(String userKeywords) {
+        if (userKeywords == null || userKeywords.isBlank()) {
+            return "";
+        }
+        Set<String> keywords = Arrays.stream(userKeywords.split(","))
+                .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toCollection(TreeSet::new));
+        return String.join("|", keywords);
+    }
+
+    private record Key(UUID caseId, String keywords) {
+        private Key {
+            Objects.requireNonNull(caseId);
+            Objects.requireNonNull(keywords);
+        }
+    }
+}
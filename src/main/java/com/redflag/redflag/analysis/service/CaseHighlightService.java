@@ -0,0 +1,216 @@
+package com.redflag.redflag.analysis.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유사 사례의 highlightTextCase 추출
+ * 엔진 (highlight.engine):
+ * - gemini: Gemini 호출 (기본값)
+ * - local: LocalKeywordHighlighter로 로컬에서 추출
+ * - auto: Gemini 평균 응답 시간이 임계값을 넘으면 local로 전환, 일정 비율로 Gemini를 다시 시도해 평균 갱신
+ * Gemini 모드 (gemini.highlight.mode):
+ * - batch: 모든 사례를 Gemini 요청 1건으로 처리 (기본값)
+ * - parallel: 사례별 Gemini 호출을 동시에 실행
+ * 제한 시간을 넘기거나 응답에서 빠진 사례는 fallback 값으로 대체 (시간을 넘긴 Gemini 호출은 취소)
+ * 캐시에 있는 사례는 Gemini를 호출하지 않으며, fallback 값은 캐시하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CaseHighlightService {
+
+    private final GeminiService geminiService;
+    private final ThreadPoolTaskExecutor geminiExecutor;
+    private final CaseHighlightCache caseHighlightCache;
+    private final LocalKeywordHighlighter localKeywordHighlighter;
+
+    // Gemini 응답 시간 지수 이동 평균 (ms)
+    private final AtomicLong geminiLatencyEwmaBits = new AtomicLong(Double.doubleToLongBits(0.0));
+    private final AtomicLong autoRequestCount = new AtomicLong();
+
+    // gemini | local | auto
+    @Value("${highlight.engine:gemini}")
+    private String engine;
+
+    // auto 모드에서 local로 전환하는 Gemini 평균 응답 시간
+    @Value("${highlight.auto.latency-threshold-ms:2500}")
+    private long latencyThresholdMs;
+
+    // auto 모드에서 local로 전환된 상태라도 N번에 1번은 Gemini로 평균 갱신
+    @Value("${highlight.auto.probe-interval:20}")
+    private long probeInterval;
+
+    // Gemini 요청 1건당 응답 제한 시간
+    @Value("${gemini.highlight.timeout-ms:5000}")
+    private long timeoutMs;
+
+    // batch | parallel
+    @Value("${gemini.highlight.mode:batch}")
+    private String mode;
+
+    /**
+     * @param caseContents 사례 ID → case_content (순서 유지)
+     * @return 사례 ID → highlightTextCase
+     */
+    public Map<UUID, String> extractHighlights(Map<UUID, String> caseContents,
+                                               String userKeywords,
+                                               List<String> detectedSentences) {
+        if (caseContents.isEmpty()) {
+            return Map.of();
+        }
+
+        if ("local".equalsIgnoreCase(engine)) {
+            return extractLocally(caseContents, userKeywords, detectedSentences);
+        }
+
+        // 1. 캐시 조회
+        String normalizedKeywords = CaseHighlightCache.normalizeKeywords(userKeywords);
+        Map<UUID, String> cached = new LinkedHashMap<>();
+        Map<UUID, String> missing = new LinkedHashMap<>();
+        caseContents.forEach((caseId, caseContent) -> {
+            String highlight = caseHighlightCache.get(caseId, normalizedKeywords);
+            if (highlight != null) {
+                cached.put(caseId, highlight);
+            } else {
+                missing.put(caseId, caseContent);
+            }
+        });
+
+        // 2. 캐시에 없는 사례만 Gemini 호출 (auto 모드에서 Gemini가 느리면 로컬 엔진 사용)
+        Map<UUID, String> extracted = Map.of();
+        if (!missing.isEmpty() && "auto".equalsIgnoreCase(engine) && !shouldUseGemini()) {
+            extracted = localKeywordHighlighter.extractHighlights(missing, userKeywords, detectedSentences);
+        } else if (!missing.isEmpty()) {
+            long startedAt = System.nanoTime();
+            extracted = "parallel".equalsIgnoreCase(mode)
+                    ? extractInParallel(missing, userKeywords, detectedSentences)
+                    : extractInBatch(missing, userKeywords, detectedSentences);
+            recordGeminiLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            caseHighlightCache.putAll(extracted, normalizedKeywords);
+        }
+        log.debug("하이라이트 캐시 적중: {}/{}개", cached.size(), caseContents.size());
+
+        // 3. 원래 순서대로 병합하고, 추출 실패 사례는 fallback
+        Map<UUID, String> highlights = new LinkedHashMap<>();
+        for (Map.Entry<UUID, String> entry : caseContents.entrySet()) {
+            String highlight = cached.getOrDefault(entry.getKey(), extracted.get(entry.getKey()));
+            highlights.put(entry.getKey(), highlight != null
+                    ? highlight
+                    : geminiService.fallbackKeywords(entry.getValue()));
+        }
+        return highlights;
+    }
+
+    // 로컬 엔진으로 추출 (일치하는 표현이 없는 사례는 fallback)
+    private Map<UUID, String> extractLocally(Map<UUID, String> caseContents,
+                                             String userKeywords,
+                                             List<String> detectedSentences) {
+        Map<UUID, String> extracted = localKeywordHighlighter.extractHighlights(caseContents, userKeywords, detectedSentences);
+
+        Map<UUID, String> highlights = new LinkedHashMap<>();
+        caseContents.forEach((caseId, caseContent) ->
+                highlights.put(caseId, extracted.getOrDefault(caseId, geminiService.fallbackKeywords(caseContent))));
+        return highlights;
+    }
+
+    // auto 모드: 평균 응답 시간이 임계값 이하이거나 주기적 재시도 차례면 Gemini 사용
+    private boolean shouldUseGemini() {
+        double ewma = Double.longBitsToDouble(geminiLatencyEwmaBits.get());
+        if (ewma <= latencyThresholdMs) {
+            return true;
+        }
+        return autoRequestCount.incrementAndGet() % Math.max(1, probeInterval) == 0;
+    }
+
+    private void recordGeminiLatency(long latencyMs) {
+        geminiLatencyEwmaBits.updateAndGet(bits -> {
+            double previous = Double.longBitsToDouble(bits);
+            double next = previous == 0.0 ? latencyMs : previous * 0.8 + latencyMs * 0.2;
+            return Double.doubleToLongBits(next);
+        });
+    }
+
+    // 모든 사례를 하나의 프롬프트로 요청 (응답에서 빠진 사례는 결과에 포함되지 않음)
+    private Map<UUID, String> extractInBatch(Map<UUID, String> caseContents,
+                                             String userKeywords,
+                                             List<String> detectedSentences) {
+        Future<Map<UUID, String>> future;
+        try {
+            future = geminiExecutor.submit(() ->
+                    geminiService.extractSimilarKeywordsBatch(caseContents, userKeywords, detectedSentences));
+        } catch (TaskRejectedException e) {
+            log.warn("Gemini 대기열 포화, fallback 사용");
+            return Map.of();
+        }
+
+        Map<UUID, String> extracted = await(future, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+        if (extracted == null) {
+            extracted = Map.of();
+        }
+        if (extracted.size() < caseContents.size()) {
+            log.warn("Gemini 일괄 응답 누락 사례 fallback: {}/{}개",
+                    caseContents.size() - extracted.size(), caseContents.size());
+        }
+        return extracted;
+    }
+
+    // 사례별 Gemini 호출을 동시에 실행, 모든 호출이 같은 제한 시각을 공유 (제한 시간 초과/실패 사례는 결과에 포함되지 않음)
+    private Map<UUID, String> extractInParallel(Map<UUID, String> caseContents,
+                                                String userKeywords,
+                                                List<String> detectedSentences) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        Map<UUID, Future<String>> futures = new LinkedHashMap<>();
+        for (Map.Entry<UUID, String> entry : caseContents.entrySet()) {
+            try {
+                futures.put(entry.getKey(), geminiExecutor.submit(() ->
+                        geminiService.extractSimilarKeywords(entry.getValue(), userKeywords, detectedSentences)));
+            } catch (TaskRejectedException e) {
+                log.warn("Gemini 대기열 포화, fallback 사용");
+                break;
+            }
+        }
+
+        Map<UUID, String> highlights = new LinkedHashMap<>();
+        futures.forEach((caseId, future) -> {
+            String highlight = await(future, deadline);
+            if (highlight != null) {
+                highlights.put(caseId, highlight);
+            }
+        });
+        return highlights;
+    }
+
+    /**
+     * 제한 시각까지 결과를 기다림 (실패/시간 초과 시 null)
+     * 시간을 넘기면 Future.cancel(true)로 Gemini 호출 스레드를 인터럽트해 HTTP 요청을 중단하고 geminiExecutor 스레드를 반환
+     */
+    private <T> T await(Future<T> future, long deadlineNanos) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Gemini 하이라이트 추출 시간 초과 ({}ms), fallback 사용", timeoutMs);
+        } catch (ExecutionException e) {
+            log.warn("Gemini 하이라이트 추출 실패, fallback 사용: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.redflag.redflag.analysis.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,8 +9,11 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -18,9 +23,10 @@ public class GeminiService {
     @Value("${gemini.api.key}")
     private String apiKey;
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate geminiRestTemplate;
+    private final ObjectMapper objectMapper;
 
-    // ExampleCase의 caseContent에서 user의 키워드와 유사한 키워드 추출
+    // ExampleCase의 caseContent에서 user의 키워드와 유사한 키워드 추출 (호출/파싱 실패 시 RuntimeException)
     public String extractSimilarKeywords(
             String caseContent,
             String userKeywords,
@@ -78,7 +84,7 @@ public class GeminiService {
                 new HttpEntity<>(requestBody, headers);
 
         try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(
+            ResponseEntity<Map> response = geminiRestTemplate.postForEntity(
                     url, entity, Map.class);
 
             Map<String, Object> responseBody = response.getBody();
@@ -97,8 +103,165 @@ public class GeminiService {
 
         } catch (Exception e) {
             log.error("Gemini API 호출 실패: {}", e.getMessage(), e);
-            // fallback: caseContent 앞 30자
-            return caseContent.substring(0, Math.min(30, caseContent.length()));
+            throw new RuntimeException("Gemini 키워드 추출 실패", e);
         }
     }
+
+    /**
+     * 여러 사례의 키워드를 한 번의 요청으로 추출
+     * 사례마다 짧은 키(case1, case2, ...)를 붙여 JSON 객체로 응답받고 사례 ID로 되돌려 매핑
+     *
+     * @return 사례 ID → 추출 키워드 (모델이 답하지 않았거나 파싱에 실패한 사례는 포함되지 않음)
+     * @throws RuntimeException Gemini 호출 실패
+     */
+    public Map<UUID, String> extractSimilarKeywordsBatch(
+            Map<UUID, String> caseContents,
+            String userKeywords,
+            List<String> detectedSentences) {
+
+        String url = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash-lite:generateContent?key=" + apiKey;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // 요청 내 사례 키 → 사례 ID
+        Map<String, UUID> caseKeys = new LinkedHashMap<>();
+        StringBuilder cases = new StringBuilder();
+        for (Map.Entry<UUID, String> entry : caseContents.entrySet()) {
+            String key = "case" + (caseKeys.size() + 1);
+            caseKeys.put(key, entry.getKey());
+            cases.append("[").append(key).append("]\n").append(entry.getValue()).append("\n\n");
+        }
+
+        String contextInfo = "";
+        if (detectedSentences != null && !detectedSentences.isEmpty()) {
+            contextInfo = "\n\n참고 - 사용자 채팅에서 탐지된 원문:\n" +
+                    String.join("\n", detectedSentences);
+        }
+
+        String prompt = String.format(
+                "### 과거 피싱 사례 목록:\n%s" +
+                        "### 현재 사용자 분석에서 탐지된 키워드:\n%s%s\n\n" +
+                        "### 작업:\n" +
+                        "각 과거 피싱 사례 텍스트에서 현재 사용자의 키워드와 의미적으로 유사하거나 관련된 " +
+                        "핵심 단어/문구를 찾아주세요.\n\n" +
+                        "### 규칙:\n" +
+                        "1. 사례마다 2-4개의 키워드만 추출\n" +
+                        "2. 키워드는 해당 사례 텍스트에 실제로 등장하는 표현 사용\n" +
+                        "3. 피싱/스캠과 관련된 핵심 단어 우선\n" +
+                        "4. 유사한 의미의 단어도 포함 (예: 사이트→웹사이트, 포인트→리워드)\n" +
+                        "5. 사례 키(%s)를 key로, 키워드 배열을 value로 하는 JSON 객체만 반환 (설명 없이)\n",
+                cases,
+                userKeywords,
+                contextInfo,
+                String.join(", ", caseKeys.keySet())
+        );
+
+        // 사례 키별 문자열 배열을 요구하는 응답 스키마
+        Map<String, Object> properties = new LinkedHashMap<>();
+        caseKeys.keySet().forEach(key -> properties.put(key, Map.of(
+                "type", "ARRAY",
+                "items", Map.of("type", "STRING"))));
+
+        Map<String, Object> requestBody = Map.of(
+                "contents", List.of(
+                        Map.of(
+                                "parts", List.of(
+                                        Map.of("text", prompt)
+                                )
+                        )
+                ),
+                "generationConfig", Map.of(
+                        "temperature", 0.3,
+                        "maxOutputTokens", 100 * caseKeys.size(),
+                        "topP", 0.8,
+                        "topK", 10,
+                        "responseMimeType", "application/json",
+                        "responseSchema", Map.of(
+                                "type", "OBJECT",
+                                "properties", properties)
+                )
+        );
+
+        HttpEntity<Map<String, Object>> entity =
+                new HttpEntity<>(requestBody, headers);
+
+        try {
+            ResponseEntity<Map> response = geminiRestTemplate.postForEntity(
+                    url, entity, Map.class);
+
+            Map<String, Object> responseBody = response.getBody();
+
+            List<Map<String, Object>> candidates =
+                    (List<Map<String, Object>>) responseBody.get("candidates");
+            Map<String, Object> content =
+                    (Map<String, Object>) candidates.get(0).get("content");
+            List<Map<String, Object>> parts =
+                    (List<Map<String, Object>>) content.get("parts");
+            String text = (String) parts.get(0).get("text");
+
+            Map<UUID, String> keywords = parseBatchKeywords(text, caseKeys);
+            log.info("Gemini 2.5 light 일괄 키워드 추출 완료: {}/{}개", keywords.size(), caseKeys.size());
+            return keywords;
+
+        } catch (Exception e) {
+            log.error("Gemini API 일괄 호출 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("Gemini 일괄 키워드 추출 실패", e);
+        }
+    }
+
+    // 일괄 응답 파싱 (코드블록 제거, 배열/문자열 값 모두 허용, 알 수 없는 키 무시)
+    private Map<UUID, String> parseBatchKeywords(String text, Map<String, UUID> caseKeys) {
+        Map<UUID, String> keywords = new LinkedHashMap<>();
+        if (text == null) {
+            return keywords;
+        }
+
+        String json = text.trim();
+        if (json.startsWith("```")) {
+            json = json.replaceAll("^```[a-zA-Z]*\\s*", "").replaceAll("\\s*```$", "");
+        }
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (Exception e) {
+            log.warn("Gemini 일괄 응답 JSON 파싱 실패: {}", e.getMessage());
+            return keywords;
+        }
+        if (root == null || !root.isObject()) {
+            return keywords;
+        }
+
+        caseKeys.forEach((key, caseId) -> {
+            JsonNode node = root.get(key);
+            if (node == null || node.isNull()) {
+                return;
+            }
+
+            List<String> values = new ArrayList<>();
+            if (node.isArray()) {
+                node.forEach(item -> {
+                    if (item.isTextual() && !item.asText().isBlank()) {
+                        values.add(item.asText().trim());
+                    }
+                });
+            } else if (node.isTextual() && !node.asText().isBlank()) {
+                values.add(node.asText().trim());
+            }
+
+            if (!values.isEmpty()) {
+                keywords.put(caseId, String.join(", ", values));
+            }
+        });
+        return keywords;
+    }
+
+    // fallback: caseContent 앞 30자
+    public String fallbackKeywords(String caseContent) {
+        if (caseContent == null) {
+            return "";
+        }
+        return caseContent.substring(0, Math.min(30, caseContent.length()));
+    }
 }
\ No newline at end of file
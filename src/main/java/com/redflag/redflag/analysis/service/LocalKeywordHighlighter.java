@@ -0,0 +1,158 @@
+package com.redflag.redflag.analysis.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 네트워크 호출 없는 로컬 키워드 하이라이트 엔진
+ * 사용자 키워드 + 동의어 + 탐지 문장 토큰으로 Aho-Corasick 매처를 만들고 case_content에서 일치 구간을 찾음
+ * 우선순위: 사용자 키워드 > 동의어 > 탐지 문장 토큰, 같은 순위면 긴 표현 우선, 최대 4개
+ */
+@Component
+public class LocalKeywordHighlighter {
+
+    private static final int MAX_KEYWORDS = 4;
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    // 피싱/스캠 문맥의 동의어 묶음
+    private static final List<List<String>> SYNONYM_GROUPS = List.of(
+            List.of("사이트", "웹사이트", "홈페이지", "링크", "url"),
+            List.of("포인트", "리워드", "적립금", "캐시백"),
+            List.of("입금", "송금", "이체", "계좌"),
+            List.of("수익", "수익률", "고수익", "배당", "원금"),
+            List.of("투자", "코인", "주식", "리딩방", "리딩"),
+            List.of("대출", "저금리", "대환", "한도"),
+            List.of("검찰", "경찰", "금융감독원", "금감원", "수사관"),
+            List.of("택배", "배송", "주소지"),
+            List.of("인증번호", "인증", "otp", "비밀번호"),
+            List.of("앱", "어플", "설치", "apk"),
+            List.of("긴급", "급하게", "즉시", "당장"),
+            List.of("엄마", "아빠", "아들", "딸", "가족"),
+            List.of("계정", "아이디", "로그인")
+    );
+
+    // 토큰 끝의 조사 제거용 (긴 것부터)
+    private static final List<String> PARTICLES = List.of(
+            "에서", "으로", "에게", "한테", "까지", "부터", "은", "는", "이", "가", "을", "를", "에", "의", "도", "로");
+
+    private static final Map<String, List<String>> SYNONYMS = buildSynonymIndex();
+
+    private enum Source { KEYWORD, SYNONYM, SENTENCE }
+
+    /**
+     * @param caseContents 사례 ID → case_content
+     * @return 사례 ID → highlightTextCase (일치하는 표현이 없으면 결과에 포함되지 않음)
+     */
+    public Map<UUID, String> extractHighlights(Map<UUID, String> caseContents,
+                                               String userKeywords,
+                                               List<String> detectedSentences) {
+        AhoCorasickMatcher<Source> matcher = new AhoCorasickMatcher<>(buildPatterns(userKeywords, detectedSentences));
+
+        Map<UUID, String> highlights = new LinkedHashMap<>();
+        caseContents.forEach((caseId, caseContent) -> {
+            String highlight = highlight(matcher, caseContent);
+            if (!highlight.isEmpty()) {
+                highlights.put(caseId, highlight);
+            }
+        });
+        return highlights;
+    }
+
+    private String highlight(AhoCorasickMatcher<Source> matcher, String caseContent) {
+        List<AhoCorasickMatcher.Match<Source>> matches = new ArrayList<>(matcher.findAll(caseContent));
+        matches.sort(Comparator
+                .comparing((AhoCorasickMatcher.Match<Source> m) -> m.value().ordinal())
+                .thenComparing(m -> -(m.end() - m.start()))
+                .thenComparingInt(AhoCorasickMatcher.Match::start));
+
+        // 이미 선택된 구간과 겹치는 표현, 같은 표현의 반복은 제외
+        Set<String> selected = new LinkedHashSet<>();
+        List<AhoCorasickMatcher.Match<Source>> chosen = new ArrayList<>();
+        for (AhoCorasickMatcher.Match<Source> match : matches) {
+            boolean overlaps = chosen.stream().anyMatch(c -> match.start() < c.end() && c.start() < match.end());
+            if (overlaps || !selected.add(match.text().trim())) {
+                continue;
+            }
+            chosen.add(match);
+            if (selected.size() >= MAX_KEYWORDS) {
+                break;
+            }
+        }
+        return String.join(", ", selected);
+    }
+
+    // 패턴 구성: 사용자 키워드, 키워드의 동의어, 탐지 문장 토큰 (먼저 등록된 출처 유지)
+    private Map<String, Source> buildPatterns(String userKeywords, List<String> detectedSentences) {
+        Map<String, Source> patterns = new HashMap<>();
+
+        List<String> keywords = new ArrayList<>();
+        if (userKeywords != null) {
+            for (String keyword : userKeywords.split(",")) {
+                String trimmed = keyword.trim();
+                if (trimmed.length() >= MIN_TOKEN_LENGTH) {
+                    keywords.add(trimmed);
+                    patterns.put(trimmed.toLowerCase(Locale.ROOT), Source.KEYWORD);
+                }
+            }
+        }
+
+        for (String keyword : keywords) {
+            for (String token : tokenize(keyword)) {
+                SYNONYMS.getOrDefault(token, List.of())
+                        .forEach(synonym -> patterns.putIfAbsent(synonym, Source.SYNONYM));
+            }
+        }
+
+        if (detectedSentences != null) {
+            for (String sentence : detectedSentences) {
+                for (String token : tokenize(sentence)) {
+                    patterns.putIfAbsent(token, Source.SENTENCE);
+                    SYNONYMS.getOrDefault(token, List.of())
+                            .forEach(synonym -> patterns.putIfAbsent(synonym, Source.SYNONYM));
+                }
+            }
+        }
+        return patterns;
+    }
+
+    // 공백/구두점 기준 분리 후 조사 제거
+    private List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String raw : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            String token = stripParticle(raw);
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private String stripParticle(String token) {
+        for (String particle : PARTICLES) {
+            if (token.length() > particle.length() + 1 && token.endsWith(particle)) {
+                return token.substring(0, token.length() - particle.length());
+            }
+        }
+        return token;
+    }
+
+    private static Map<String, List<String>> buildSynonymIndex() {
+        Map<String, List<String>> index = new HashMap<>();
+        for (List<String> group : SYNONYM_GROUPS) {
+            for (String word : group) {
+                index.put(word, group);
+            }
+        }
+        return index;
+    }
+}
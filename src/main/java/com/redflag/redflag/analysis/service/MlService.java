@@ -1,38 +1,45 @@
 package com.redflag.redflag.analysis.service;
 
+import com.redflag.redflag.analysis.dto.AnalysisImage;
 import com.redflag.redflag.analysis.dto.MlAnalysisResponse;
+import com.redflag.redflag.analysis.dto.MlEmbeddingRequest;
+import com.redflag.redflag.analysis.dto.MlEmbeddingResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MlService {
     
-    private final RestTemplate restTemplate;
+    private final RestTemplate mlRestTemplate;
     
     @Value("${ml.server.url}")
     private String mlServerUrl;
+
+    // 텍스트 일괄 임베딩 API (사례 데이터 적재용)
+    @Value("${ml.server.embed-url:}")
+    private String mlEmbedUrl;
     
     // ML 서버에 이미지를 전송하고 분석 결과를 받아옴
-    public MlAnalysisResponse analyze(MultipartFile image) {
+    public MlAnalysisResponse analyze(AnalysisImage image) {
         try {
             // 1. multipart/form-data 요청 body 생성
+            // spool 파일을 요청 본문으로 바로 스트리밍 (이미지 전체를 힙에 올리지 않음)
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", new ByteArrayResource(image.getBytes()) {
+            body.add("file", new FileSystemResource(image.path()) {
                 @Override
                 public String getFilename() {
-                    return image.getOriginalFilename();
+                    return image.originalFilename();
                 }
             });
             
@@ -46,7 +53,7 @@ public class MlService {
             
             // 4. ML 서버로 POST 요청
             log.info("ML 서버 분석 요청: {}", mlServerUrl);
-            ResponseEntity<MlAnalysisResponse> response = restTemplate.postForEntity(
+            ResponseEntity<MlAnalysisResponse> response = mlRestTemplate.postForEntity(
                 mlServerUrl,
                 requestEntity,
                 MlAnalysisResponse.class
@@ -61,12 +68,22 @@ public class MlService {
                 throw new RuntimeException("ML 분석 실패");
             }
             
-        } catch (IOException e) {
-            log.error("이미지 파일 읽기 실패: {}", e.getMessage());
-            throw new RuntimeException("이미지 처리 실패", e);
         } catch (Exception e) {
             log.error("ML 서버 통신 실패: {}", e.getMessage());
             throw new RuntimeException("ML 서버 연동 실패", e);
         }
     }
+
+    // 텍스트 목록의 임베딩을 한 번에 요청 (응답은 요청과 같은 순서)
+    public List<float[]> embed(List<String> texts) {
+        if (mlEmbedUrl == null || mlEmbedUrl.isBlank()) {
+            throw new IllegalStateException("ml.server.embed-url이 설정되지 않았습니다.");
+        }
+        MlEmbeddingResponse response = mlRestTemplate.postForObject(
+                mlEmbedUrl, new MlEmbeddingRequest(texts), MlEmbeddingResponse.class);
+        if (response == null || response.getEmbeddings() == null || response.getEmbeddings().size() != texts.size()) {
+            throw new IllegalStateException("ML 임베딩 응답 개수가 요청과 다릅니다: 요청 " + texts.size() + "건");
+        }
+        return response.getEmbeddings();
+    }
 }
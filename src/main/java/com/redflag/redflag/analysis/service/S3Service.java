@@ -1,15 +1,15 @@
 package com.redflag.redflag.analysis.service;
 
+import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.redflag.redflag.analysis.dto.AnalysisImage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.UUID;
 
 @Slf4j
@@ -26,23 +26,22 @@ public class S3Service {
     private String region;
     
     // 이미지 파일을 S3에 업로드하고 URL을 반환
-    public String upload(MultipartFile file) {
+    public String upload(AnalysisImage image) {
         // 파일명 생성 (UUID로 중복 방지)
-        String fileName = generateFileName(file.getOriginalFilename());
+        String fileName = generateFileName(image.originalFilename());
         
         // 파일 메타데이터 설정
         ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType(file.getContentType());
-        metadata.setContentLength(file.getSize());
+        metadata.setContentType(image.contentType());
+        metadata.setContentLength(image.size());
         
         try {
-            // S3에 파일 업로드
+            // S3에 파일 업로드 (spool 파일에서 직접 스트리밍, 재시도 시에도 파일을 다시 읽으므로 메모리 버퍼링 없음)
             amazonS3.putObject(new PutObjectRequest(
                 bucket,
                 fileName,
-                file.getInputStream(),
-                metadata
-            ));
+                image.path().toFile()
+            ).withMetadata(metadata));
             
             // 업로드된 파일의 URL 생성
             String imageUrl = String.format("https://%s.s3.%s.amazonaws.com/%s",
@@ -51,12 +50,28 @@ public class S3Service {
             log.info("S3 업로드 완료: {}", imageUrl);
             return imageUrl;
             
-        } catch (IOException e) {
+        } catch (SdkClientException e) {
             log.error("S3 업로드 실패: {}", e.getMessage());
             throw new RuntimeException("이미지 업로드 실패", e);
         }
     }
     
+    // 업로드된 이미지 삭제 (분석 실패 시 정리용)
+    public void delete(String imageUrl) {
+        String prefix = String.format("https://%s.s3.%s.amazonaws.com/", bucket, region);
+        if (imageUrl == null || !imageUrl.startsWith(prefix)) {
+            log.warn("삭제 대상이 아닌 URL: {}", imageUrl);
+            return;
+        }
+        
+        try {
+            amazonS3.deleteObject(bucket, imageUrl.substring(prefix.length()));
+            log.info("S3 객체 삭제 완료: {}", imageUrl);
+        } catch (Exception e) {
+            log.error("S3 객체 삭제 실패: {}, {}", imageUrl, e.getMessage());
+        }
+    }
+    
     // UUID를 사용한 고유 파일명 생성 (충돌 방지)
     // ex: analysis/550e8400-e29b-41d4-a716-446655440000.jpg
     private String generateFileName(String originalFileName) {
@@ -0,0 +1,24 @@
+package com.redflag.redflag.dashboard.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * detection_daily_count 초기 적재 완료 표시 (행이 있으면 적재 완료, 1행만 사용)
+ * 적재와 같은 트랜잭션에서 INSERT하므로 적재가 실패하면 표시도 남지 않음
+ */
+@Entity
+@Table(name = "detection_count_backfill")
+@Getter
+@NoArgsConstructor
+public class DetectionCountBackfill {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,42 @@
+package com.redflag.redflag.dashboard.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별/위험도 구간별 분석 완료 건수 (대시보드 집계용)
+ * 위험도 구간은 riskScore / 10 (0~10), 분석 결과 저장 트랜잭션에서 UPSERT로 증가
+ */
+@Entity
+@Table(name = "detection_daily_count")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DetectionDailyCount {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "detected_count", nullable = false)
+    private long detectedCount;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "detection_date", nullable = false)
+        private LocalDate detectionDate;
+
+        @Column(name = "risk_bucket", nullable = false)
+        private int riskBucket;
+    }
+}
@@ -0,0 +1,21 @@
+package com.redflag.redflag.dashboard.repository;
+
+import com.redflag.redflag.dashboard.domain.DetectionCountBackfill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DetectionCountBackfillRepository extends JpaRepository<DetectionCountBackfill, Integer> {
+
+    /**
+     * 적재 완료 표시 선점 (이미 있으면 0 반환)
+     * 다른 인스턴스가 같은 행을 INSERT 중이면 그 트랜잭션이 끝날 때까지 대기하므로 적재는 한 번만 실행됨
+     */
+    @Modifying
+    @Query(value = "INSERT INTO detection_count_backfill (id, completed_at) VALUES (1, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (id) DO NOTHING",
+           nativeQuery = true)
+    int claim();
+}
@@ -0,0 +1,47 @@
+package com.redflag.redflag.dashboard.repository;
+
+import com.redflag.redflag.dashboard.domain.DetectionDailyCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DetectionDailyCountRepository extends JpaRepository<DetectionDailyCount, DetectionDailyCount.Key> {
+
+    /**
+     * 구간 건수 1 증가 (분석 결과 저장 트랜잭션 안에서 호출)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO detection_daily_count (detection_date, risk_bucket, detected_count) " +
+                   "VALUES (:detectionDate, :riskBucket, 1) " +
+                   "ON CONFLICT (detection_date, risk_bucket) " +
+                   "DO UPDATE SET detected_count = detection_daily_count.detected_count + 1",
+           nativeQuery = true)
+    void increment(@Param("detectionDate") LocalDate detectionDate, @Param("riskBucket") int riskBucket);
+
+    /**
+     * 특정 날짜의 구간별 건수 (PK 범위 조회, 최대 11행)
+     */
+    @Query("SELECT d FROM DetectionDailyCount d WHERE d.id.detectionDate = :detectionDate")
+    List<DetectionDailyCount> findByDetectionDate(@Param("detectionDate") LocalDate detectionDate);
+
+    /**
+     * analysis_history에서 전체 날짜의 구간별 건수를 다시 계산해 반영 (집계 테이블 도입 시 1회, 호출 측 트랜잭션에서 실행)
+     * 이미 있는 행은 큰 값을 유지 (적재 중 커밋된 실시간 증가분을 덮어쓰지 않음)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO detection_daily_count (detection_date, risk_bucket, detected_count) " +
+                   "SELECT CAST(created_at AS date), LEAST(GREATEST(risk_score, 0) / 10, 10), COUNT(*) " +
+                   "FROM analysis_history " +
+                   "WHERE risk_score IS NOT NULL " +
+                   "GROUP BY 1, 2 " +
+                   "ON CONFLICT (detection_date, risk_bucket) " +
+                   "DO UPDATE SET detected_count = GREATEST(detection_daily_count.detected_count, EXCLUDED.detected_count)",
+           nativeQuery = true)
+    int backfill();
+}
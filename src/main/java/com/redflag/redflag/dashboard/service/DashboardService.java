@@ -1,6 +1,5 @@
 package com.redflag.redflag.dashboard.service;
 
-import com.redflag.redflag.analysis.repository.AnalysisHistoryRepository;
 import com.redflag.redflag.dashboard.dto.response.AgeDistributionApiResponse;
 import com.redflag.redflag.dashboard.dto.response.DashboardResponse;
 import com.redflag.redflag.dashboard.dto.response.GenderDistributionApiResponse;
@@ -12,9 +11,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.Comparator;
 
 @Slf4j
@@ -31,8 +27,8 @@ public class DashboardService {
     @Value("${api.odcloud.gender-distribution-url}")
     private String genderDistributionUrl;
 
-    private final RestTemplate restTemplate;
-    private final AnalysisHistoryRepository analysisHistoryRepository;
+    private final RestTemplate odcloudRestTemplate;
+    private final DetectionCountService detectionCountService;
 
     /**
      * 대시보드
@@ -59,27 +55,17 @@ public class DashboardService {
     }
 
     /**
-     * 오늘 탐지된 건수 조회 (riskScore >= 50)
+     * 오늘 탐지된 건수 조회 (riskScore >= 50, 일별 집계에서 조회)
      */
     private DashboardResponse.TodayDetection getTodayDetection() {
-        // 오늘 00:00:00 부터 내일 00:00:00 미만까지
-        LocalDateTime startOfToday = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        LocalDateTime startOfTomorrow = LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.MIN);
-
-        // riskScore가 50 이상인 오늘의 탐지 건수 조회
-        Long todayDetectedCount = analysisHistoryRepository.countByRiskScoreGreaterThanEqualAndCreatedAtBetween(
-                50,
-                startOfToday,
-                startOfTomorrow
-        );
-        
+        long todayDetectedCount = detectionCountService.countToday(50);
         return new DashboardResponse.TodayDetection(todayDetectedCount);
     }
 
     private DashboardResponse.AgeDistribution getAgeDistribution() {
         try {
             String url = ageDistributionUrl + "?serviceKey=" + serviceKey;
-            AgeDistributionApiResponse response = restTemplate.getForObject(url, AgeDistributionApiResponse.class);
+            AgeDistributionApiResponse response = odcloudRestTemplate.getForObject(url, AgeDistributionApiResponse.class);
 
             if (response == null || response.data() == null || response.data().isEmpty()) {
                 throw new GeneralException(ErrorStatus.DASHBOARD_AGE_DATA_NOT_FOUND);
@@ -115,7 +101,7 @@ public class DashboardService {
     private DashboardResponse.GenderDistribution getGenderDistribution() {
         try {
             String url = genderDistributionUrl + "?serviceKey=" + serviceKey;
-            GenderDistributionApiResponse response = restTemplate.getForObject(url, GenderDistributionApiResponse.class);
+            GenderDistributionApiResponse response = odcloudRestTemplate.getForObject(url, GenderDistributionApiResponse.class);
 
             if (response == null || response.data() == null || response.data().isEmpty()) {
                 throw new GeneralException(ErrorStatus.DASHBOARD_GENDER_DATA_NOT_FOUND);
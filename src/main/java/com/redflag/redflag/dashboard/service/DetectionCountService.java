@@ -0,0 +1,166 @@
+package com.redflag.redflag.dashboard.service;
+
+import com.redflag.redflag.dashboard.domain.DetectionDailyCount;
+import com.redflag.redflag.dashboard.repository.DetectionCountBackfillRepository;
+import com.redflag.redflag.dashboard.repository.DetectionDailyCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대시보드 탐지 건수 집계
+ * - 분석 완료 시 결과 저장 트랜잭션에서 detection_daily_count(날짜, 위험도 구간) 행을 UPSERT로 1 증가
+ * - 오늘 건수는 메모리에 보관: DB에서 읽은 구간별 기준값 + 커밋 이후 이 인스턴스에서 증가한 값(LongAdder)
+ *   refresh-seconds마다 DB 값으로 다시 맞추므로 다른 인스턴스의 증가분도 그 주기 안에 반영됨
+ *   커밋된 증가분이 이미 기준값에 들어 있을 수 있으면 메모리 증가 대신 다음 조회 때 DB 값을 다시 읽음 (중복 집계 방지)
+ * 조회는 구간 11개 합산 (analysis_history 스캔 없음)
+ */
+@Slf4j
+@Service
+public class DetectionCountService {
+
+    // riskScore / 10 → 0~10
+    private static final int BUCKETS = 11;
+
+    private final DetectionDailyCountRepository detectionDailyCountRepository;
+    private final DetectionCountBackfillRepository detectionCountBackfillRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<Day> today = new AtomicReference<>();
+
+    @Value("${dashboard.detection.refresh-seconds:30}")
+    private long refreshSeconds;
+
+    @Value("${dashboard.detection.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    public DetectionCountService(DetectionDailyCountRepository detectionDailyCountRepository,
+                                 DetectionCountBackfillRepository detectionCountBackfillRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.detectionDailyCountRepository = detectionDailyCountRepository;
+        this.detectionCountBackfillRepository = detectionCountBackfillRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 분석 완료 1건 반영 (결과 저장 트랜잭션 안에서 호출, 메모리 카운터는 커밋 후 반영)
+     * @param createdAt 분석 요청 시각 (집계 날짜 기준)
+     */
+    public void record(LocalDateTime createdAt, Integer riskScore) {
+        if (createdAt == null || riskScore == null) {
+            return;
+        }
+        LocalDate date = createdAt.toLocalDate();
+        int bucket = bucketOf(riskScore);
+        // UPSERT 전에 기록 → 이 시각보다 먼저 끝난 적재에는 이번 증가분이 없음
+        long recordedAt = System.nanoTime();
+        detectionDailyCountRepository.increment(date, bucket);
+        eventPublisher.publishEvent(new DetectionRecordedEvent(date, bucket, recordedAt));
+    }
+
+    /**
+     * 커밋 후 메모리 카운터 반영
+     * 기준값을 record() 이전에 다 읽었으면 증가분이 빠져 있으므로 1 증가,
+     * 그 이후에 읽었으면 커밋된 값이 이미 포함되었을 수 있으므로 증가하지 않고 다음 조회 때 DB에서 다시 읽음
+     * 반영하는 사이 기준값이 교체되면 새 기준값에 대해 다시 판단
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecorded(DetectionRecordedEvent event) {
+        Day day;
+        do {
+            day = today.get();
+            if (day == null || !day.date.equals(event.date())) {
+                return;
+            }
+            if (day.loadedAt < event.recordedAt()) {
+                day.recorded[event.bucket()].increment();
+            } else {
+                day.stale = true;
+            }
+        } while (today.get() != day);
+    }
+
+    /**
+     * 오늘 riskScore가 minRiskScore 이상인 건수 (10점 단위 구간으로 합산)
+     */
+    public long countToday(int minRiskScore) {
+        Day day = currentDay();
+        long count = 0;
+        for (int bucket = bucketOf(minRiskScore); bucket < BUCKETS; bucket++) {
+            count += day.loaded[bucket] + day.recorded[bucket].sum();
+        }
+        return count;
+    }
+
+    /**
+     * 도입 후 처음 시작할 때 analysis_history에서 한 번 채움
+     * 완료 표시(detection_count_backfill)를 선점한 인스턴스만 같은 트랜잭션에서 적재하므로
+     * 적재가 실패하면 표시도 롤백되어 다음 시작 때 다시 시도함
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        if (!backfillOnStartup || detectionCountBackfillRepository.claim() == 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int rows = detectionDailyCountRepository.backfill();
+        log.info("탐지 건수 집계 초기화 완료 - {}행, {}ms", rows, System.currentTimeMillis() - start);
+    }
+
+    // 날짜가 바뀌었거나 갱신 주기가 지나면 DB 값으로 다시 적재
+    private Day currentDay() {
+        LocalDate date = LocalDate.now();
+        Day day = today.get();
+        if (day != null && day.date.equals(date) && !day.stale
+                && System.nanoTime() - day.loadedAt < TimeUnit.SECONDS.toNanos(refreshSeconds)) {
+            return day;
+        }
+
+        long[] loaded = new long[BUCKETS];
+        for (DetectionDailyCount row : detectionDailyCountRepository.findByDetectionDate(date)) {
+            loaded[row.getId().getRiskBucket()] = row.getDetectedCount();
+        }
+        // 적재가 끝난 시각 (onRecorded에서 record() 시각과 비교)
+        Day refreshed = new Day(date, loaded, System.nanoTime());
+        // 동시에 갱신한 요청이 있으면 먼저 반영된 값을 사용
+        return today.compareAndSet(day, refreshed) ? refreshed : today.get();
+    }
+
+    private static int bucketOf(int riskScore) {
+        return Math.min(Math.max(riskScore, 0) / 10, BUCKETS - 1);
+    }
+
+    record DetectionRecordedEvent(LocalDate date, int bucket, long recordedAt) {
+    }
+
+    private static final class Day {
+
+        private final LocalDate date;
+        private final long[] loaded;
+        private final LongAdder[] recorded = new LongAdder[BUCKETS];
+        private final long loadedAt;
+        // 커밋된 증가분 포함 여부를 알 수 없음 → 다음 조회 때 다시 적재
+        private volatile boolean stale;
+
+        private Day(LocalDate date, long[] loaded, long loadedAt) {
+            this.date = date;
+            this.loaded = loaded;
+            this.loadedAt = loadedAt;
+            for (int i = 0; i < BUCKETS; i++) {
+                recorded[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.redflag.redflag.global.config;
+
+import com.redflag.redflag.global.exception.GeneralException;
+import com.redflag.redflag.global.exception.code.status.ErrorStatus;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 관리자 API(/api/v1/admin/**) 접근 제어
+ * X-Admin-Key 헤더가 admin.api-key 설정값과 같아야 함 (설정값이 없으면 모든 요청 거부)
+ */
+@Component
+public class AdminKeyInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "X-Admin-Key";
+
+    @Value("${admin.api-key:}")
+    private String apiKey;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+        String provided = request.getHeader(HEADER);
+        if (apiKey.isBlank() || provided == null || !MessageDigest.isEqual(
+                apiKey.getBytes(StandardCharsets.UTF_8), provided.getBytes(StandardCharsets.UTF_8))) {
+            throw new GeneralException(ErrorStatus._UNAUTHORIZED);
+        }
+        return true;
+    }
+}
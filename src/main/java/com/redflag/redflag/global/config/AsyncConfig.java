@@ -0,0 +1,114 @@
+package com.redflag.redflag.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// @Scheduled 작업은 Spring Boot 기본 TaskScheduler에서 실행
+@EnableScheduling
+@Configuration
+public class AsyncConfig {
+
+    @Value("${analysis.executor.core-size:4}")
+    private int coreSize;
+
+    @Value("${analysis.executor.max-size:8}")
+    private int maxSize;
+
+    @Value("${analysis.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${analysis.io-executor.size:16}")
+    private int ioExecutorSize;
+
+    @Value("${gemini.executor.size:12}")
+    private int geminiExecutorSize;
+
+    @Value("${background-job.executor.size:4}")
+    private int backgroundJobExecutorSize;
+
+    @Value("${example-case.ingest.embed-concurrency:2}")
+    private int ingestEmbedConcurrency;
+
+    /**
+     * 분석 파이프라인 전용 스레드 풀
+     * 대기열이 가득 차면 TaskRejectedException을 던져 요청 단계에서 503으로 응답
+     */
+    @Bean(name = "analysisExecutor")
+    public ThreadPoolTaskExecutor analysisExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analysis-");
+        // 종료 시 진행 중인 작업이 끝날 때까지 대기 (남은 작업은 재시작 시 복구)
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * 파이프라인 내부의 외부 I/O 단계(S3, ML 등)를 동시에 실행하기 위한 스레드 풀
+     * 분석 작업 1건당 최대 2개의 스레드를 사용
+     */
+    @Bean(name = "analysisIoExecutor")
+    public ThreadPoolTaskExecutor analysisIoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(ioExecutorSize);
+        executor.setMaxPoolSize(ioExecutorSize);
+        executor.setQueueCapacity(ioExecutorSize * 4);
+        executor.setThreadNamePrefix("analysis-io-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * 유사 사례별 Gemini 하이라이트 추출을 병렬로 실행하기 위한 스레드 풀
+     * Gemini 동시 요청 수의 상한 역할도 함
+     */
+    @Bean(name = "geminiExecutor")
+    public ThreadPoolTaskExecutor geminiExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(geminiExecutorSize);
+        executor.setMaxPoolSize(geminiExecutorSize);
+        executor.setQueueCapacity(geminiExecutorSize * 8);
+        executor.setThreadNamePrefix("gemini-");
+        return executor;
+    }
+
+    /**
+     * 관리자/서버 시작 시 실행되는 장시간 백그라운드 작업용 스레드 풀
+     * (사례 적재, 중복 통합, pgvector 인덱스 구축, 인메모리 검색 인덱스 구축)
+     * 작업 종류마다 동시에 하나만 실행하므로 대기열이 가득 차지 않음
+     * 종료 시 기다리지 않고 인터럽트 (적재는 커밋 위치부터 재개, 인덱스는 재시작 시 다시 구축)
+     */
+    @Bean(name = "backgroundJobExecutor")
+    public ThreadPoolTaskExecutor backgroundJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(backgroundJobExecutorSize);
+        executor.setMaxPoolSize(backgroundJobExecutorSize);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("background-job-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    /**
+     * 사례 적재 중 ML 임베딩 요청을 동시에 실행하기 위한 스레드 풀
+     * 적재 스레드가 결과를 기다리므로 backgroundJobExecutor와 분리 (같은 풀이면 교착 가능)
+     */
+    @Bean(name = "ingestEmbedExecutor")
+    public ThreadPoolTaskExecutor ingestEmbedExecutor() {
+        int size = Math.max(ingestEmbedConcurrency, 1);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(size);
+        executor.setThreadNamePrefix("example-case-embed-");
+        executor.setDaemon(true);
+        return executor;
+    }
+}
@@ -0,0 +1,48 @@
+package com.redflag.redflag.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC 배치 쓰기 설정
+ * - ID는 GenerationType.UUID로 애플리케이션에서 생성하므로 INSERT 전에 DB 조회가 필요 없음 → 배치 가능
+ * - hibernate.jdbc.batch_size: 같은 INSERT/UPDATE를 batch-size개씩 묶어 한 번에 전송
+ * - order_inserts / order_updates: 엔티티 유형별로 정렬해 배치가 끊기지 않도록 함
+ * - reWriteBatchedInserts (PostgreSQL 드라이버): 배치 INSERT를 multi-row INSERT 하나로 재작성
+ * spring.jpa.properties.hibernate.*, spring.datasource.hikari.data-source-properties.*로 직접 지정한 값이 우선
+ *
+ * 설정 키: jpa.batch.{size|rewrite-batched-inserts}
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchHibernatePropertiesCustomizer(
+            @Value("${jpa.batch.size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", String.valueOf(batchSize));
+            properties.putIfAbsent("hibernate.order_inserts", "true");
+            properties.putIfAbsent("hibernate.order_updates", "true");
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", "true");
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor rewriteBatchedInsertsPostProcessor(
+            @Value("${jpa.batch.rewrite-batched-inserts:true}") boolean rewriteBatchedInserts) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (rewriteBatchedInserts && bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null && dataSource.getJdbcUrl().startsWith("jdbc:postgresql:")) {
+                    dataSource.getDataSourceProperties().putIfAbsent("reWriteBatchedInserts", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
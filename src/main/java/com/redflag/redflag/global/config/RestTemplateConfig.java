@@ -1,21 +1,178 @@
 package com.redflag.redflag.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
-import java.time.Duration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
+/**
+ * 외부 호출 대상별 RestTemplate
+ * 대상마다 커넥션 풀/타임아웃을 분리해 느린 외부 API(odcloud 등)가 ML 서버용 커넥션을 점유하지 못하도록 함
+ * - ML 서버, odcloud: Apache HttpClient 커넥션 풀 (풀 사용량은 httpcomponents.httpclient.pool.* 메트릭으로 노출)
+ * - Gemini, YouTube: JDK HttpClient (HTTP/2, 커넥션 하나에 요청을 다중화)
+ *   Apache HttpClient 클래식 API는 HTTP/2를 지원하지 않고 인터럽트로 요청을 중단할 수 없어 JDK HttpClient 유지
+ *   (Gemini 하이라이트는 제한 시간이 지나면 스레드 인터럽트로 요청을 취소함)
+ *   JDK HttpClient는 최대 커넥션 수 설정과 커넥션 풀 메트릭이 없음 → 동시 요청 수는 호출 측에서 제한
+ *   (Gemini: geminiExecutor 크기, YouTube: 요청 스레드 수), 요청 단위 지표는 RestTemplateBuilder의 http.client.requests 메트릭으로 확인
+ * HTTP 클라이언트는 빈으로 등록해 종료 시 정리 (Apache: close, JDK: 전용 실행 스레드 풀 종료)
+ *
+ * 설정 키: http.client.{ml|odcloud|gemini|youtube}.{max-connections|connect-timeout-ms|read-timeout-ms|keep-alive-seconds|acquire-timeout-ms}
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    public RestTemplateConfig(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // ML 서버: 분석 작업 동시 실행 수만큼 커넥션 필요, 추론 시간이 길어 읽기 타임아웃을 넉넉하게
+    // 읽기 타임아웃은 분석 단계 제한 시간(analysis.pipeline.stage-timeout-seconds)을 넘지 않음
+    // (단계가 시간 초과로 끝난 뒤에도 응답을 기다리며 analysisIoExecutor 스레드를 점유하지 않도록)
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient mlHttpClient() {
+        long stageTimeoutMs = environment.getProperty("analysis.pipeline.stage-timeout-seconds", Long.class, 60L) * 1000;
+        return pooled("ml", 20, 3_000, 60_000, stageTimeoutMs, 30);
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder
-                .setConnectTimeout(Duration.ofSeconds(30))  // 연결 타임아웃 10초
-                .setReadTimeout(Duration.ofSeconds(30))     // 읽기 타임아웃 30초
+    public RestTemplate mlRestTemplate(RestTemplateBuilder builder, CloseableHttpClient mlHttpClient) {
+        return build(builder, new HttpComponentsClientHttpRequestFactory(mlHttpClient));
+    }
+
+    // 공공데이터(odcloud): 대시보드 통계 조회용, 적은 커넥션과 짧은 타임아웃
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient odcloudHttpClient() {
+        return pooled("odcloud", 5, 3_000, 10_000, Long.MAX_VALUE, 30);
+    }
+
+    @Bean
+    public RestTemplate odcloudRestTemplate(RestTemplateBuilder builder, CloseableHttpClient odcloudHttpClient) {
+        return build(builder, new HttpComponentsClientHttpRequestFactory(odcloudHttpClient));
+    }
+
+    /**
+     * JDK HttpClient 비동기 처리용 스레드 풀 (Gemini, YouTube 공용)
+     * 기본 실행기는 종료 수단이 없어 컨텍스트 종료 후에도 스레드가 남음 → 빈으로 등록해 종료 시 함께 정리
+     * 기본 실행기와 같은 캐시 스레드 풀 형태 (요청 본문 쓰기 작업이 스레드를 점유해도 응답 처리가 밀리지 않도록)
+     * 동시 요청 수는 호출 측에서 제한하므로 스레드 수도 그 범위를 넘지 않음
+     */
+    @Bean(name = "httpClientExecutor")
+    public ThreadPoolTaskExecutor httpClientExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(0);
+        executor.setMaxPoolSize(Integer.MAX_VALUE);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("http-client-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    @Bean
+    public HttpClient geminiHttpClient(ThreadPoolTaskExecutor httpClientExecutor) {
+        return http2("gemini", 3_000, httpClientExecutor);
+    }
+
+    // Gemini: 읽기 타임아웃은 하이라이트 제한 시간(gemini.highlight.timeout-ms)을 넘지 않음
+    @Bean
+    public RestTemplate geminiRestTemplate(RestTemplateBuilder builder, HttpClient geminiHttpClient) {
+        long highlightTimeoutMs = environment.getProperty("gemini.highlight.timeout-ms", Long.class, 5_000L);
+        return build(builder, jdkRequestFactory("gemini", geminiHttpClient, 30_000, highlightTimeoutMs));
+    }
+
+    @Bean
+    public HttpClient youtubeHttpClient(ThreadPoolTaskExecutor httpClientExecutor) {
+        return http2("youtube", 3_000, httpClientExecutor);
+    }
+
+    @Bean
+    public RestTemplate youtubeRestTemplate(RestTemplateBuilder builder, HttpClient youtubeHttpClient) {
+        return build(builder, jdkRequestFactory("youtube", youtubeHttpClient, 10_000, Long.MAX_VALUE));
+    }
+
+    private RestTemplate build(RestTemplateBuilder builder, ClientHttpRequestFactory requestFactory) {
+        return builder.requestFactory(() -> requestFactory).build();
+    }
+
+    // Apache HttpClient 커넥션 풀 (클라이언트를 닫으면 커넥션 풀도 함께 닫힘)
+    // maxReadTimeoutMs: 설정값과 관계없이 적용되는 읽기 타임아웃 상한
+    private CloseableHttpClient pooled(String name, int defaultMaxConnections, long defaultConnectTimeoutMs,
+                                       long defaultReadTimeoutMs, long maxReadTimeoutMs,
+                                       long defaultKeepAliveSeconds) {
+        int maxConnections = property(name, "max-connections", defaultMaxConnections);
+        long connectTimeoutMs = property(name, "connect-timeout-ms", defaultConnectTimeoutMs);
+        long readTimeoutMs = Math.min(property(name, "read-timeout-ms", defaultReadTimeoutMs), maxReadTimeoutMs);
+        long keepAliveSeconds = property(name, "keep-alive-seconds", defaultKeepAliveSeconds);
+        // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간 (초과 시 즉시 실패해 스레드가 묶이지 않도록)
+        long acquireTimeoutMs = property(name, "acquire-timeout-ms", 2_000L);
+
+        // 대상 호스트가 하나이므로 라우트당 최대값 = 전체 최대값
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(keepAliveSeconds / 2))
+                        .build())
                 .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                .build();
+    }
+
+    // JDK HttpClient (HTTP/2 우선, 서버가 지원하지 않으면 HTTP/1.1로 협상)
+    private HttpClient http2(String name, long defaultConnectTimeoutMs, Executor executor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(property(name, "connect-timeout-ms", defaultConnectTimeoutMs)))
+                .executor(executor)
+                .build();
+    }
+
+    private ClientHttpRequestFactory jdkRequestFactory(String name, HttpClient httpClient,
+                                                       long defaultReadTimeoutMs, long maxReadTimeoutMs) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(
+                Math.min(property(name, "read-timeout-ms", defaultReadTimeoutMs), maxReadTimeoutMs)));
+        return requestFactory;
+    }
+
+    private <T> T property(String client, String key, T defaultValue) {
+        @SuppressWarnings("unchecked")
+        Class<T> type = (Class<T>) defaultValue.getClass();
+        return environment.getProperty("http.client." + client + "." + key, type, defaultValue);
     }
 }
@@ -37,6 +37,12 @@ public class SwaggerConfig {
                 .in(SecurityScheme.In.COOKIE)
                 .name(cookieName);
 
+        // 관리자 API 키 (관리자 컨트롤러에 @SecurityRequirement(name = "AdminKey")로 지정, 검증은 AdminKeyInterceptor)
+        SecurityScheme adminKey = new SecurityScheme()
+                .type(SecurityScheme.Type.APIKEY)
+                .in(SecurityScheme.In.HEADER)
+                .name(AdminKeyInterceptor.HEADER);
+
         // 3. 보안 요구사항 정의
         SecurityRequirement securityRequirement = new SecurityRequirement().addList("CookieAuth");
 
@@ -50,7 +56,9 @@ public class SwaggerConfig {
                                 "2. 우측 상단 **Authorize** 버튼 클릭\n" +
                                 "3. `Value`란에 `user_id=발급받은UUID` 입력")
                         .version("v1.0.0"))
-                .components(new Components().addSecuritySchemes("CookieAuth", cookieAuth))
+                .components(new Components()
+                        .addSecuritySchemes("CookieAuth", cookieAuth)
+                        .addSecuritySchemes("AdminKey", adminKey))
                 .addSecurityItem(securityRequirement);
     }
 }
@@ -1,12 +1,17 @@
 package com.redflag.redflag.global.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final AdminKeyInterceptor adminKeyInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -21,4 +26,10 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)  // 쿠키 전송 허용
                 .maxAge(3600);           // preflight 요청 캐시 시간 (1시간)
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(adminKeyInterceptor)
+                .addPathPatterns("/api/v1/admin/**");
+    }
 }
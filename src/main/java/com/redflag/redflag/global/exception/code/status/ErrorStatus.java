@@ -23,6 +23,25 @@ public enum ErrorStatus implements BaseErrorCode {
     DASHBOARD_GENDER_LATEST_DATA_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "DASHBOARD4004", "최근 연도 성별 데이터를 찾을 수 없습니다."),
     DASHBOARD_EXTERNAL_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "DASHBOARD5001", "외부 API 조회에 실패했습니다."),
 
+    // 분석 관련 에러
+    ANALYSIS_NOT_FOUND(HttpStatus.NOT_FOUND, "ANALYSIS4041", "분석 결과를 찾을 수 없습니다."),
+    ANALYSIS_FORBIDDEN(HttpStatus.FORBIDDEN, "ANALYSIS4031", "해당 분석 결과에 접근 권한이 없습니다."),
+    ANALYSIS_NOT_COMPLETED(HttpStatus.CONFLICT, "ANALYSIS4091", "분석이 아직 완료되지 않았습니다."),
+    ANALYSIS_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "ANALYSIS4001", "잘못된 페이지 커서입니다."),
+    ANALYSIS_IMAGE_SPOOL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "ANALYSIS5001", "업로드 이미지 임시 저장에 실패했습니다."),
+    ANALYSIS_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "ANALYSIS5031", "분석 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // 관리자 API 관련 에러
+    ADMIN_INDEX_REBUILD_REJECTED(HttpStatus.CONFLICT, "ADMIN4091", "인덱스를 사용하지 않도록 설정되어 있거나 이미 구축 중입니다."),
+    ADMIN_INGESTION_UNSUPPORTED_FORMAT(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "ADMIN4151", "지원하지 않는 적재 파일 형식입니다. (application/x-ndjson, text/csv)"),
+    ADMIN_INGESTION_NOT_FOUND(HttpStatus.NOT_FOUND, "ADMIN4041", "적재 작업을 찾을 수 없습니다."),
+    ADMIN_INGESTION_RUNNING(HttpStatus.CONFLICT, "ADMIN4092", "이미 실행 중인 적재 작업이 있습니다."),
+    ADMIN_INGESTION_NOT_RESUMABLE(HttpStatus.CONFLICT, "ADMIN4093", "실패한 작업이 아니거나 적재 파일이 남아 있지 않아 재개할 수 없습니다."),
+    ADMIN_CONSOLIDATION_NOT_FOUND(HttpStatus.NOT_FOUND, "ADMIN4042", "실행한 중복 통합 작업이 없습니다."),
+    ADMIN_CONSOLIDATION_RUNNING(HttpStatus.CONFLICT, "ADMIN4094", "이미 실행 중인 중복 통합 작업이 있습니다."),
+    ADMIN_CONSOLIDATION_INVALID_THRESHOLD(HttpStatus.BAD_REQUEST, "ADMIN4001", "유사도 기준은 0보다 크고 1 이하여야 합니다."),
+    ADMIN_INGESTION_SPOOL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "ADMIN5001", "적재 파일 임시 저장에 실패했습니다."),
+
     // 보안 정보 관련 에러
     SECURITY_NEWS_FETCH_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SECURITY5001", "보안 뉴스 조회에 실패했습니다."),
     SECURITY_YOUTUBE_FETCH_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SECURITY5002", "유튜브 영상 조회에 실패했습니다."),
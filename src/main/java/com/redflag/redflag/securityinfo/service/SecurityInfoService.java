@@ -38,7 +38,7 @@ public class SecurityInfoService {
     @Value("${api.google-rss.url}")
     private String rssUrl;
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate youtubeRestTemplate;
 
     private static final int NEWS_LIMIT = 2;
     private static final int NEWS_LIST_LIMIT = 10;
@@ -75,7 +75,7 @@ public class SecurityInfoService {
                     playlistId, VIDEO_LIMIT, youtubeApiKey
             );
 
-            YoutubeApiResponse response = restTemplate.getForObject(url, YoutubeApiResponse.class);
+            YoutubeApiResponse response = youtubeRestTemplate.getForObject(url, YoutubeApiResponse.class);
 
             if (response == null || response.items() == null || response.items().isEmpty()) {
                 throw new GeneralException(ErrorStatus.SECURITY_YOUTUBE_FETCH_ERROR);
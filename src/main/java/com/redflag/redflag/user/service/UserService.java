@@ -2,6 +2,7 @@ package com.redflag.redflag.user.service;
 
 import com.redflag.redflag.analysis.domain.User;
 import com.redflag.redflag.analysis.repository.UserRepository;
+import com.redflag.redflag.global.id.UuidV7Generator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,11 +19,13 @@ public class UserService {
 
     /**
      * 새로운 사용자를 생성하고 UUID를 반환
-     * UUID는 자동으로 생성됨 (GenerationType.UUID)
+     * UUID는 시간 순서 UUIDv7로 발급
      */
     @Transactional
     public UUID createUser() {
-        User user = User.builder().build();
+        User user = User.builder()
+                .id(UuidV7Generator.next())
+                .build();
         User savedUser = userRepository.save(user);
         
         log.info("새로운 사용자 생성: {}", savedUser.getId());
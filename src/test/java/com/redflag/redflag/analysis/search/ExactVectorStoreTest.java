@@ -0,0 +1,82 @@
+package com.redflag.redflag.analysis.search;
+
+import jdk.incubator.vector.FloatVector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * SIMD 전수 검색 결과가 스칼라 전수 검색과 같은지 검증
+ * 차원이 레인 수의 배수가 아니면 남는 성분은 스칼라 꼬리 루프에서 계산됨
+ */
+class ExactVectorStoreTest {
+
+    private static final int LANES = FloatVector.SPECIES_PREFERRED.length();
+
+    @ParameterizedTest
+    @ValueSource(ints = {768, 100, 37, 3})
+    void topKMatchesScalarBruteForce(int dimension) {
+        assertMatchesBruteForce(dimension, 1000, null);
+    }
+
+    // 구간별 병렬 검색 후 병합하는 경로 (행 수가 MIN_ROWS_PER_TASK * 2 이상)
+    @Test
+    void parallelScanMatchesScalarBruteForce() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertMatchesBruteForce(LANES * 4 + 3, 10_000, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void removeMovesLastRowIntoFreedSlot() {
+        int dimension = LANES + 1;
+        Map<UUID, float[]> vectors = VectorFixtures.randomVectors(50, dimension, 11L);
+        ExactVectorStore store = new ExactVectorStore(dimension, 16, null);
+        vectors.forEach(store::add);
+
+        UUID removed = vectors.keySet().iterator().next();
+        assertThat(store.remove(removed)).isTrue();
+        assertThat(store.remove(removed)).isFalse();
+        vectors.remove(removed);
+
+        assertThat(store.size()).isEqualTo(49);
+        // 옮겨진 마지막 행을 포함해 남은 모든 벡터가 자기 자신을 가장 가깝게 찾아야 함
+        vectors.forEach((id, vector) -> {
+            List<SimilarCase> results = store.search(vector, 1);
+            assertThat(results.get(0).exampleCaseId()).isEqualTo(id);
+            assertThat(results.get(0).distance()).isCloseTo(0.0, within(1e-5));
+        });
+    }
+
+    private static void assertMatchesBruteForce(int dimension, int count, ForkJoinPool pool) {
+        int k = 10;
+        Map<UUID, float[]> vectors = VectorFixtures.randomVectors(count, dimension, dimension);
+        ExactVectorStore store = new ExactVectorStore(dimension, 16, pool);
+        vectors.forEach(store::add);
+
+        Random random = new Random(7L);
+        for (int q = 0; q < 20; q++) {
+            float[] query = VectorFixtures.randomVector(dimension, random);
+            List<SimilarCase> expected = VectorFixtures.bruteForce(vectors, query, k);
+            List<SimilarCase> actual = store.search(query, k);
+
+            assertThat(actual).extracting(SimilarCase::exampleCaseId)
+                    .containsExactlyElementsOf(expected.stream().map(SimilarCase::exampleCaseId).toList());
+            for (int i = 0; i < k; i++) {
+                assertThat(actual.get(i).distance()).isCloseTo(expected.get(i).distance(), within(1e-5));
+            }
+        }
+    }
+}
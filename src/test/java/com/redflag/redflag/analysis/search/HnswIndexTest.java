@@ -0,0 +1,113 @@
+package com.redflag.redflag.analysis.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 128;
+
+    @Test
+    void searchFindsInsertedVectorFirst() {
+        Map<UUID, float[]> vectors = VectorFixtures.randomVectors(500, DIMENSION, 1L);
+        HnswIndex index = new HnswIndex(DIMENSION, 16, 100);
+        vectors.forEach(index::add);
+
+        assertThat(index.size()).isEqualTo(500);
+        vectors.entrySet().stream().limit(50).forEach(entry -> {
+            List<SimilarCase> results = index.search(entry.getValue(), 3, 40);
+            assertThat(results).hasSize(3);
+            assertThat(results.get(0).exampleCaseId()).isEqualTo(entry.getKey());
+            assertThat(results.get(0).distance()).isCloseTo(0.0, within(1e-5));
+            assertThat(results).isSortedAccordingTo((a, b) -> Double.compare(a.distance(), b.distance()));
+        });
+    }
+
+    @Test
+    void removedVectorIsNotReturned() {
+        Map<UUID, float[]> vectors = VectorFixtures.randomVectors(300, DIMENSION, 2L);
+        HnswIndex index = new HnswIndex(DIMENSION, 16, 100);
+        vectors.forEach(index::add);
+
+        UUID removed = vectors.keySet().iterator().next();
+        assertThat(index.remove(removed)).isTrue();
+        assertThat(index.remove(removed)).isFalse();
+
+        assertThat(index.contains(removed)).isFalse();
+        assertThat(index.size()).isEqualTo(299);
+        assertThat(index.deletedCount()).isEqualTo(1);
+        assertThat(index.search(vectors.get(removed), 10, 40))
+                .hasSize(10)
+                .extracting(SimilarCase::exampleCaseId)
+                .doesNotContain(removed);
+    }
+
+    @Test
+    void addingSameIdReplacesVector() {
+        Map<UUID, float[]> vectors = VectorFixtures.randomVectors(200, DIMENSION, 3L);
+        HnswIndex index = new HnswIndex(DIMENSION, 16, 100);
+        vectors.forEach(index::add);
+
+        UUID id = vectors.keySet().iterator().next();
+        float[] replacement = VectorFixtures.randomVector(DIMENSION, new Random(99L));
+        index.add(id, replacement);
+
+        assertThat(index.size()).isEqualTo(200);
+        List<SimilarCase> results = index.search(replacement, 1, 40);
+        assertThat(results.get(0).exampleCaseId()).isEqualTo(id);
+        assertThat(results.get(0).distance()).isCloseTo(0.0, within(1e-5));
+        assertThat(index.search(vectors.get(id), 200, 200))
+                .filteredOn(result -> result.exampleCaseId().equals(id))
+                .singleElement()
+                .satisfies(result -> assertThat(result.distance()).isGreaterThan(0.5));
+    }
+
+    /**
+     * 무작위 가우시안 벡터는 군집이 없어 ANN에 가장 불리한 분포 (실제 임베딩은 이보다 재현율이 높음)
+     * 이 분포에서 ef=400이면 사실상 전수 검색과 같고, ef가 커질수록 재현율이 올라가야 함
+     */
+    @Test
+    void recallAgainstBruteForce() {
+        int k = 10;
+        Map<UUID, float[]> vectors = VectorFixtures.randomVectors(5000, DIMENSION, 4L);
+        HnswIndex index = new HnswIndex(DIMENSION, 16, 200);
+        vectors.forEach(index::add);
+
+        double recallEf50 = recall(index, vectors, k, 50);
+        double recallEf200 = recall(index, vectors, k, 200);
+        double recallEf400 = recall(index, vectors, k, 400);
+
+        assertThat(recallEf200).isGreaterThan(recallEf50);
+        assertThat(recallEf200).isGreaterThanOrEqualTo(0.95);
+        assertThat(recallEf400).isGreaterThanOrEqualTo(0.99);
+    }
+
+    private static double recall(HnswIndex index, Map<UUID, float[]> vectors, int k, int ef) {
+        Random random = new Random(5L);
+        int queries = 100;
+        int hits = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = VectorFixtures.randomVector(DIMENSION, random);
+            Set<UUID> expected = VectorFixtures.bruteForce(vectors, query, k).stream()
+                    .map(SimilarCase::exampleCaseId)
+                    .collect(Collectors.toSet());
+            List<SimilarCase> actual = index.search(query, k, ef);
+
+            assertThat(actual).hasSize(k);
+            hits += (int) actual.stream().filter(result -> expected.contains(result.exampleCaseId())).count();
+            // 반환 거리는 근사값이 아닌 실제 코사인 거리
+            actual.forEach(result -> assertThat(result.distance())
+                    .isCloseTo(VectorFixtures.cosineDistance(vectors.get(result.exampleCaseId()), query), within(1e-4)));
+        }
+        return (double) hits / (queries * k);
+    }
+}
@@ -0,0 +1,86 @@
+package com.redflag.redflag.analysis.search;
+
+import jdk.incubator.vector.FloatVector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 양자화 shortlist + 원본 임베딩 재정렬 결과가 스칼라 전수 검색 상위 k개와 같은지 검증
+ * 재정렬은 QuantizedSearchEngine에서 pgvector(findNearestAmong)로 하므로 여기서는 원본 벡터로 직접 정렬
+ */
+class QuantizedVectorStoreTest {
+
+    private static final int K = 10;
+    // QuantizedSearchEngine 기본 shortlist
+    private static final int SHORTLIST = 30;
+
+    @ParameterizedTest
+    @ValueSource(ints = {768, 100, 37})
+    void shortlistThenRerankMatchesExactTopK(int dimension) {
+        Map<UUID, float[]> vectors = VectorFixtures.randomVectors(2000, dimension, dimension);
+        QuantizedVectorStore store = new QuantizedVectorStore(dimension, 16);
+        vectors.forEach(store::add);
+
+        Random random = new Random(7L);
+        for (int q = 0; q < 20; q++) {
+            float[] query = VectorFixtures.randomVector(dimension, random);
+            List<SimilarCase> expected = VectorFixtures.bruteForce(vectors, query, K);
+            List<SimilarCase> actual = rerank(vectors, query, store.shortlist(query, SHORTLIST));
+
+            assertThat(actual).extracting(SimilarCase::exampleCaseId)
+                    .containsExactlyElementsOf(expected.stream().map(SimilarCase::exampleCaseId).toList());
+        }
+    }
+
+    // 근사 거리는 int8 반올림 오차 이내여야 함 (레인 배수가 아닌 차원은 스칼라 꼬리 루프 포함)
+    @ParameterizedTest
+    @ValueSource(ints = {768, 37})
+    void approximateDistanceStaysCloseToExact(int dimension) {
+        Map<UUID, float[]> vectors = VectorFixtures.randomVectors(200, dimension, 3L);
+        QuantizedVectorStore store = new QuantizedVectorStore(dimension, 16);
+        vectors.forEach(store::add);
+
+        float[] query = VectorFixtures.randomVector(dimension, new Random(5L));
+        for (SimilarCase candidate : store.shortlist(query, vectors.size())) {
+            double exact = VectorFixtures.cosineDistance(vectors.get(candidate.exampleCaseId()), query);
+            assertThat(candidate.distance()).isCloseTo(exact, within(0.01));
+        }
+    }
+
+    @Test
+    void removeMovesLastRowIntoFreedSlot() {
+        int dimension = FloatVector.SPECIES_PREFERRED.length() * 4 + 1;
+        Map<UUID, float[]> vectors = VectorFixtures.randomVectors(50, dimension, 11L);
+        QuantizedVectorStore store = new QuantizedVectorStore(dimension, 16);
+        vectors.forEach(store::add);
+
+        UUID removed = vectors.keySet().iterator().next();
+        assertThat(store.remove(removed)).isTrue();
+        assertThat(store.remove(removed)).isFalse();
+        vectors.remove(removed);
+
+        assertThat(store.size()).isEqualTo(49);
+        vectors.forEach((id, vector) ->
+                assertThat(store.shortlist(vector, 1).get(0).exampleCaseId()).isEqualTo(id));
+    }
+
+    // findNearestAmong과 같은 역할: 후보만 원본 임베딩 거리로 다시 정렬해 상위 k개
+    private static List<SimilarCase> rerank(Map<UUID, float[]> vectors, float[] query, List<SimilarCase> candidates) {
+        return candidates.stream()
+                .map(c -> new SimilarCase(c.exampleCaseId(),
+                        VectorFixtures.cosineDistance(vectors.get(c.exampleCaseId()), query)))
+                .sorted(Comparator.comparingDouble(SimilarCase::distance))
+                .limit(K)
+                .toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.redflag.redflag.analysis.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 인메모리 검색 테스트용 무작위 벡터와 스칼라 전수 검색 기준값
+ */
+final class VectorFixtures {
+
+    private VectorFixtures() {
+    }
+
+    // 가우시안 성분의 무작위 벡터 (정규화하지 않음, 인덱스가 정규화하는지도 함께 검증)
+    static Map<UUID, float[]> randomVectors(int count, int dimension, long seed) {
+        Random random = new Random(seed);
+        Map<UUID, float[]> vectors = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            vectors.put(new UUID(seed, i), randomVector(dimension, random));
+        }
+        return vectors;
+    }
+
+    static float[] randomVector(int dimension, Random random) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    // double 정밀도 코사인 거리 (1 - cos)
+    static double cosineDistance(float[] a, float[] b) {
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += (double) a[i] * b[i];
+            normA += (double) a[i] * a[i];
+            normB += (double) b[i] * b[i];
+        }
+        return 1 - dot / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+
+    // 스칼라 전수 검색 상위 k개 (거리 오름차순)
+    static List<SimilarCase> bruteForce(Map<UUID, float[]> vectors, float[] query, int k) {
+        List<SimilarCase> all = new ArrayList<>(vectors.size());
+        vectors.forEach((id, vector) -> all.add(new SimilarCase(id, cosineDistance(vector, query))));
+        all.sort(Comparator.comparingDouble(SimilarCase::distance));
+        return all.subList(0, Math.min(k, all.size()));
+    }
+}
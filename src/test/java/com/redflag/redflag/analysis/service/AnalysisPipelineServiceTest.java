@@ -0,0 +1,118 @@
+package com.redflag.redflag.analysis.service;
+
+import com.redflag.redflag.analysis.dto.AnalysisImage;
+import com.redflag.redflag.analysis.repository.AnalysisHistoryRepository;
+import com.redflag.redflag.analysis.repository.ExampleCaseRepository;
+import com.redflag.redflag.analysis.search.CaseCategoryResolver;
+import com.redflag.redflag.analysis.search.SimilarCaseSearchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * S3 업로드 / ML 분석 동시 실행 단계의 실패 처리
+ */
+class AnalysisPipelineServiceTest {
+
+    private static final String IMAGE_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/analysis/image.png";
+
+    private final S3Service s3Service = mock(S3Service.class);
+    private final MlService mlService = mock(MlService.class);
+    private final AnalysisHistoryRepository analysisHistoryRepository = mock(AnalysisHistoryRepository.class);
+
+    private ThreadPoolTaskExecutor executor;
+    private AnalysisPipelineService pipelineService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+
+        pipelineService = new AnalysisPipelineService(s3Service, mlService, mock(CaseHighlightService.class),
+                mock(AnalysisResultWriter.class), analysisHistoryRepository, mock(ExampleCaseRepository.class),
+                mock(SimilarCaseSearchService.class), mock(CaseCategoryResolver.class), executor,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pipelineService, "stageTimeoutSeconds", 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void uploadFinishingAfterMlFailureIsDeleted() throws Exception {
+        UUID analysisId = UUID.randomUUID();
+        AnalysisImage image = new AnalysisImage(Path.of("image.png"), "image.png", "image/png", 10, "hash");
+        CountDownLatch uploadStarted = new CountDownLatch(1);
+        CountDownLatch releaseUpload = new CountDownLatch(1);
+
+        when(analysisHistoryRepository.existsById(analysisId)).thenReturn(true);
+        when(s3Service.upload(any())).thenAnswer(invocation -> {
+            uploadStarted.countDown();
+            releaseUpload.await(5, TimeUnit.SECONDS);
+            return IMAGE_URL;
+        });
+        when(mlService.analyze(any())).thenAnswer(invocation -> {
+            uploadStarted.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("ML 서버 오류");
+        });
+
+        // 업로드가 진행 중인 상태에서 ML 실패로 단계가 종료됨
+        assertThatThrownBy(() -> pipelineService.process(analysisId, image))
+                .isInstanceOf(IllegalStateException.class);
+        verify(s3Service, never()).delete(any());
+
+        // 업로드가 뒤늦게 끝나면 객체가 삭제되어야 함
+        releaseUpload.countDown();
+        verify(s3Service, timeout(5000)).delete(IMAGE_URL);
+    }
+
+    @Test
+    void runningMlCallIsInterruptedWhenUploadFails() throws Exception {
+        UUID analysisId = UUID.randomUUID();
+        AnalysisImage image = new AnalysisImage(Path.of("image.png"), "image.png", "image/png", 10, "hash");
+        CountDownLatch mlStarted = new CountDownLatch(1);
+        CountDownLatch mlInterrupted = new CountDownLatch(1);
+
+        when(analysisHistoryRepository.existsById(analysisId)).thenReturn(true);
+        when(mlService.analyze(any())).thenAnswer(invocation -> {
+            mlStarted.countDown();
+            try {
+                new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                mlInterrupted.countDown();
+                throw e;
+            }
+            return null;
+        });
+        when(s3Service.upload(any())).thenAnswer(invocation -> {
+            mlStarted.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("S3 오류");
+        });
+
+        // 업로드 실패로 단계가 끝나면 실행 중인 ML 호출 스레드가 인터럽트되어야 함
+        assertThatThrownBy(() -> pipelineService.process(analysisId, image))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(mlInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(s3Service, never()).delete(any());
+    }
+}
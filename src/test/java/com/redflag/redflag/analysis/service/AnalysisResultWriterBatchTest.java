@@ -0,0 +1,140 @@
+package com.redflag.redflag.analysis.service;
+
+import com.redflag.redflag.analysis.domain.AnalysisHistory;
+import com.redflag.redflag.analysis.domain.AnalysisStatus;
+import com.redflag.redflag.analysis.domain.ExampleCase;
+import com.redflag.redflag.analysis.domain.User;
+import com.redflag.redflag.analysis.dto.MatchedCase;
+import com.redflag.redflag.analysis.dto.MlAnalysisResponse;
+import com.redflag.redflag.analysis.repository.AnalysisDetailRepository;
+import com.redflag.redflag.analysis.repository.AnalysisHistoryRepository;
+import com.redflag.redflag.analysis.repository.ExampleCaseRepository;
+import com.redflag.redflag.analysis.repository.SpecificMatchRepository;
+import com.redflag.redflag.analysis.repository.UserRepository;
+import com.redflag.redflag.analysis.search.PgvectorIndexManager;
+import com.redflag.redflag.dashboard.service.DetectionCountService;
+import com.redflag.redflag.global.config.JpaBatchConfig;
+import com.redflag.redflag.global.id.UuidV7Generator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분석 결과 저장 시 SQL 왕복 횟수 검증 (Docker가 없으면 건너뜀)
+ * AnalysisDetail/SpecificMatch는 건수와 관계없이 엔티티 유형별 배치 INSERT 한 번으로 저장되어야 함 (스냅샷은 1건)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AnalysisResultWriter.class, DetectionCountService.class, JpaBatchConfig.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, PropertyPlaceholderAutoConfiguration.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnalysisResultWriterBatchTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            DockerImageName.parse("pgvector/pgvector:pg16").asCompatibleSubstituteFor("postgres"))
+            .withInitScript("db/init-pgvector.sql");
+
+    // ExampleCaseRepository의 벡터 검색 구현(ExampleCaseVectorRepositoryImpl) 의존성, JPA 슬라이스는 @Component를 스캔하지 않음
+    @MockitoBean
+    private PgvectorIndexManager pgvectorIndexManager;
+
+    @Autowired
+    private AnalysisResultWriter analysisResultWriter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AnalysisHistoryRepository analysisHistoryRepository;
+
+    @Autowired
+    private AnalysisDetailRepository analysisDetailRepository;
+
+    @Autowired
+    private SpecificMatchRepository specificMatchRepository;
+
+    @Autowired
+    private ExampleCaseRepository exampleCaseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void saveWritesDetailsAndMatchesInOneBatchPerEntity() {
+        User user = userRepository.save(User.builder().id(UuidV7Generator.next()).build());
+        AnalysisHistory history = analysisHistoryRepository.save(AnalysisHistory.builder()
+                .user(user)
+                .status(AnalysisStatus.PENDING)
+                .build());
+        List<ExampleCase> cases = exampleCaseRepository.saveAll(IntStream.range(0, 3)
+                .mapToObj(i -> ExampleCase.builder().caseContent("사례 " + i).category("대출사기").build())
+                .toList());
+
+        List<MlAnalysisResponse.PsychologicalPattern> patterns = IntStream.range(0, 6)
+                .mapToObj(i -> MlAnalysisResponse.PsychologicalPattern.builder()
+                        .patternType("URGENCY")
+                        .detectedSentence("지금 바로 입금하세요 " + i)
+                        .keyword("입금")
+                        .patternScore(80 - i)
+                        .build())
+                .toList();
+        MlAnalysisResponse mlResult = MlAnalysisResponse.builder()
+                .ocrText("지금 바로 입금하세요")
+                .riskScore(87)
+                .riskLevel("HIGH")
+                .description("긴급성 강조")
+                .psychologicalPatterns(patterns)
+                .build();
+        List<MatchedCase> matches = IntStream.range(0, cases.size())
+                .mapToObj(i -> new MatchedCase(cases.get(i).getId(), cases.get(i).getCategory(),
+                        cases.get(i).getCaseContent(), BigDecimal.valueOf(0.9 - i * 0.1), i + 1, "입금", "입금"))
+                .toList();
+
+        statistics.clear();
+        analysisResultWriter.save(history.getId(), "https://example.com/image.png", "hash", mlResult, matches);
+
+        // AnalysisHistory 조회 1 + AnalysisHistory UPDATE 1 + AnalysisDetail 배치 INSERT 1 + SpecificMatch 배치 INSERT 1
+        // + AnalysisSnapshot INSERT 1 + 탐지 건수 UPSERT 1
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(patterns.size() + matches.size() + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+
+        assertThat(analysisDetailRepository.findByAnalysisHistory(history)).hasSize(patterns.size());
+        assertThat(specificMatchRepository.findByAnalysisHistory(history)).hasSize(matches.size());
+    }
+}
@@ -0,0 +1,76 @@
+package com.redflag.redflag.dashboard.service;
+
+import com.redflag.redflag.dashboard.domain.DetectionDailyCount;
+import com.redflag.redflag.dashboard.repository.DetectionCountBackfillRepository;
+import com.redflag.redflag.dashboard.repository.DetectionDailyCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 오늘 탐지 건수의 메모리 카운터가 커밋된 DB 값과 중복 집계되지 않는지 검증
+ */
+class DetectionCountServiceTest {
+
+    private final DetectionDailyCountRepository repository = mock(DetectionDailyCountRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private DetectionCountService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DetectionCountService(repository, mock(DetectionCountBackfillRepository.class), eventPublisher);
+        ReflectionTestUtils.setField(service, "refreshSeconds", 3600L);
+    }
+
+    // 기준값을 읽은 뒤 커밋된 분석은 메모리에서 1 증가 (DB를 다시 읽지 않음)
+    @Test
+    void countsCommitAfterSnapshotInMemory() {
+        committedCount(0);
+        assertThat(service.countToday(70)).isZero();
+
+        DetectionCountService.DetectionRecordedEvent event = record();
+        committedCount(1);
+        service.onRecorded(event);
+
+        assertThat(service.countToday(70)).isEqualTo(1);
+        verify(repository, times(1)).findByDetectionDate(LocalDate.now());
+    }
+
+    // 커밋 후 리스너 실행 전에 다시 읽은 기준값에는 이미 포함 → 증가하지 않고 DB 값 사용
+    @Test
+    void doesNotDoubleCountCommitIncludedInReloadedSnapshot() {
+        DetectionCountService.DetectionRecordedEvent event = record();
+        committedCount(1);
+        assertThat(service.countToday(70)).isEqualTo(1);
+
+        service.onRecorded(event);
+
+        assertThat(service.countToday(70)).isEqualTo(1);
+    }
+
+    private DetectionCountService.DetectionRecordedEvent record() {
+        service.record(LocalDateTime.now(), 85);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return (DetectionCountService.DetectionRecordedEvent) captor.getValue();
+    }
+
+    private void committedCount(long count) {
+        when(repository.findByDetectionDate(any())).thenReturn(List.of(
+                new DetectionDailyCount(new DetectionDailyCount.Key(LocalDate.now(), 8), count)));
+    }
+}